@@ -0,0 +1,32 @@
+package mz.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar, it runs JMH with the GC profiler always attached.<br>
+ * The profiler reports {@code gc.alloc.rate.norm}, the bytes allocated per operation, next to the time per operation,
+ * so dividing it by the size gives the bytes per element of a release.
+ * Every JMH command line option is accepted, for example {@code -p type=Long -p size=1000 SummationBenchmark}.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Cannot be instantiated!
+     */
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,72 @@
+package mz.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import mz.Summation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link Summation#summation(Object)} on the Collection shapes of the tests.<br>
+ * The default sizes stop at 10^7, a node based Collection of 10^8 boxed values does not fit a usual heap, {@code -p size=100000000} adds it.
+ * The sets are filled with distinct values, but a Byte or Short set cannot hold more than 2^8 or 2^16 of them,
+ * so the secondary result {@code elements} gives the time per value actually added, comparable across every shape.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx8g"})
+public class CollectionSummationBenchmark {
+
+    @Param({"Byte", "Short", "Integer", "Long", "Float", "Double", "BigInteger", "BigDecimal"})
+    private String type;
+
+    @Param({"Stack", "Vector", "ArrayList", "TreeSet", "HashSet", "LinkedHashSet", "LinkedList", "LinkedBlockingQueue", "ArrayDeque"})
+    private String shape;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Collection<Number> values;
+
+    @Setup
+    public void setup() {
+        values = Values.collection(shape, type, size);
+    }
+
+    @Benchmark
+    public Number summation(Elements elements) {
+        elements.elements += values.size();
+        return Summation.summation(values);
+    }
+
+    /**
+     * Counts the values added, JMH normalizes the count like the operations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Elements {
+
+        public long elements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            elements = 0;
+        }
+    }
+}
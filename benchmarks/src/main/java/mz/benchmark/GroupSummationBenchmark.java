@@ -0,0 +1,74 @@
+package mz.benchmark;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import mz.Summation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the grouped summations {@link Summation#summationArray(Object)}, {@link Summation#summationCollection(Object, Class)}
+ * and {@link Summation#summationMap(Object, Class)} on rows of {@link #WIDTH} values, from 10 to 10^7 values together.<br>
+ * The rows are a {@code Number[][]} or an ArrayList of rows of one of the Collection shapes of the tests,
+ * and {@link Summation#summationCollection(Object, Class)} collects into the same shape, ArrayList for the array rows.
+ * A node based shape of 10^8 boxed values does not fit a usual heap, {@code -p size=100000000} adds it.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx8g"})
+public class GroupSummationBenchmark {
+
+    /**
+     * Number of values of a row.
+     */
+    private static final int WIDTH = 64;
+
+    @Param({"Byte", "Short", "Integer", "Long", "Float", "Double", "BigInteger", "BigDecimal"})
+    private String type;
+
+    @Param({"Array", "Stack", "Vector", "ArrayList", "TreeSet", "HashSet", "LinkedHashSet", "LinkedList", "LinkedBlockingQueue", "ArrayDeque"})
+    private String shape;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Object groups;
+    @SuppressWarnings("rawtypes")
+    private Class<? extends Collection> output;
+
+    @Setup
+    public void setup() {
+        groups = Values.groups(shape, type, size, WIDTH);
+        output = Values.collectionClass(shape);
+    }
+
+    @Benchmark
+    public Number[] summationArray() {
+        return Summation.summationArray(groups);
+    }
+
+    @Benchmark
+    public Object summationCollection() {
+        return Summation.summationCollection(groups, output);
+    }
+
+    @Benchmark
+    public Object summationMap() {
+        return Summation.summationMap(groups, HashMap.class);
+    }
+}
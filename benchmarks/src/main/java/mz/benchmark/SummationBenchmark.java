@@ -0,0 +1,47 @@
+package mz.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mz.Summation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link Summation#summation(Object)} on arrays of every Number type, from 10 to 10^8 values.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx8g"})
+public class SummationBenchmark {
+
+    @Param({"Byte", "Short", "Integer", "Long", "Float", "Double", "BigInteger", "BigDecimal"})
+    private String type;
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    private int size;
+
+    private Number[] values;
+
+    @Setup
+    public void setup() {
+        values = Values.array(type, size);
+    }
+
+    @Benchmark
+    public Number summation() {
+        return Summation.summation(values);
+    }
+}
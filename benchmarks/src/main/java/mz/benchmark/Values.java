@@ -0,0 +1,228 @@
+package mz.benchmark;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Stack;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Input data of the benchmarks, the same types and Collection shapes as the tests use.<br>
+ * Values come from a fixed seed, so every fork and every release measures the same input.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class Values {
+
+    private static final long SEED = 0x5EED_5EEDL;
+
+    /**
+     * Cannot be instantiated!
+     */
+    private Values() {}
+
+    /**
+     * Creates an array of random values.
+     * @param type simple name of the Number class: Byte, Short, Integer, Long, Float, Double, BigInteger or BigDecimal.
+     * @param size number of values.
+     * @return array with the component type of the Number class.
+     */
+    static Number[] array(String type, int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Number[] values = newArray(type, size);
+        for (int i = 0; i < size; i++) {
+            values[i] = value(type, random.nextInt());
+        }
+        return values;
+    }
+
+    /**
+     * Creates an array of distinct values in a random order, so a set keeps all of them.<br>
+     * Byte and Short have only 2^8 and 2^16 distinct values, a larger array repeats them.
+     * @param type simple name of the Number class.
+     * @param size number of values.
+     * @return array with the component type of the Number class.
+     */
+    static Number[] distinct(String type, int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Number[] values = newArray(type, size);
+        for (int i = 0; i < size; i++) {
+            values[i] = value(type, i - size / 2);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Number value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Creates rows of random values, the rows are at most {@code width} long and hold {@code size} values together.
+     * @param type simple name of the Number class.
+     * @param size number of values.
+     * @param width length of a row.
+     * @return rows with the component type of the Number class.
+     */
+    static Number[][] groups(String type, int size, int width) {
+        Number[] values = array(type, size);
+        int rows = (size + width - 1) / width;
+        Number[][] groups = (Number[][]) Array.newInstance(values.getClass(), rows);
+        for (int i = 0; i < rows; i++) {
+            int from = i * width;
+            groups[i] = Arrays.copyOfRange(values, from, Math.min(size, from + width));
+        }
+        return groups;
+    }
+
+    /**
+     * Creates a Collection of the given shape, a set gets distinct values so it is not smaller than the other shapes.
+     * @param shape simple name of the Collection class.
+     * @param type simple name of the Number class.
+     * @param size number of values.
+     * @return the filled Collection, a set of Byte or Short values holds at most 2^8 or 2^16 of them.
+     */
+    static Collection<Number> collection(String shape, String type, int size) {
+        return collection(shape, isSet(shape) ? distinct(type, size) : array(type, size));
+    }
+
+    /**
+     * Creates rows of the given shape in an ArrayList, a set gets distinct values like {@link #collection(String, String, int)}.
+     * @param shape simple name of the Collection class of a row, or Array for {@link #groups(String, int, int)}.
+     * @param type simple name of the Number class.
+     * @param size number of values.
+     * @param width length of a row.
+     * @return Number[][] or a List of Collections.
+     */
+    static Object groups(String shape, String type, int size, int width) {
+        if (shape.equals("Array")) {
+            return groups(type, size, width);
+        }
+        Number[] values = isSet(shape) ? distinct(type, size) : array(type, size);
+        int rows = (size + width - 1) / width;
+        List<Collection<Number>> groups = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int from = i * width;
+            groups.add(collection(shape, Arrays.copyOfRange(values, from, Math.min(size, from + width))));
+        }
+        return groups;
+    }
+
+    /**
+     * @param shape simple name of the Collection class, or Array.
+     * @return the Collection class of the shape, ArrayList for Array.
+     */
+    @SuppressWarnings("rawtypes")
+    static Class<? extends Collection> collectionClass(String shape) {
+        return shape.equals("Array") ? ArrayList.class : collection(shape, new Number[0]).getClass();
+    }
+
+    /**
+     * @param shape simple name of the Collection class.
+     * @return true if the shape drops repeated values.
+     */
+    private static boolean isSet(String shape) {
+        return shape.equals("TreeSet") || shape.equals("HashSet") || shape.equals("LinkedHashSet");
+    }
+
+    /**
+     * Creates a Collection of the given shape.
+     * @param shape simple name of the Collection class: Stack, Vector, ArrayList, TreeSet, HashSet, LinkedHashSet, LinkedList, LinkedBlockingQueue or ArrayDeque.
+     * @param values values of the Collection, sets drop the repeated ones.
+     * @return the filled Collection.
+     */
+    static Collection<Number> collection(String shape, Number[] values) {
+        Collection<Number> collection;
+        switch (shape) {
+            case "Stack":
+                collection = new Stack<>();
+                break;
+            case "Vector":
+                collection = new Vector<>(values.length);
+                break;
+            case "ArrayList":
+                collection = new ArrayList<>(values.length);
+                break;
+            case "TreeSet":
+                collection = new TreeSet<>();
+                break;
+            case "HashSet":
+                collection = new HashSet<>();
+                break;
+            case "LinkedHashSet":
+                collection = new LinkedHashSet<>();
+                break;
+            case "LinkedList":
+                collection = new LinkedList<>();
+                break;
+            case "LinkedBlockingQueue":
+                collection = new LinkedBlockingQueue<>();
+                break;
+            case "ArrayDeque":
+                collection = new ArrayDeque<>(values.length);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported shape! Supported shape: Stack, Vector, ArrayList, TreeSet, HashSet, LinkedHashSet, LinkedList, LinkedBlockingQueue, ArrayDeque");
+        }
+        for (Number value : values) {
+            collection.add(value);
+        }
+        return collection;
+    }
+
+    private static Number[] newArray(String type, int size) {
+        switch (type) {
+            case "Byte":
+                return new Byte[size];
+            case "Short":
+                return new Short[size];
+            case "Integer":
+                return new Integer[size];
+            case "Long":
+                return new Long[size];
+            case "Float":
+                return new Float[size];
+            case "Double":
+                return new Double[size];
+            case "BigInteger":
+                return new BigInteger[size];
+            case "BigDecimal":
+                return new BigDecimal[size];
+            default:
+                throw new IllegalArgumentException("Unsupported type! Supported type: Byte, Short, Integer, Long, Float, Double, BigInteger, BigDecimal");
+        }
+    }
+
+    private static Number value(String type, int r) {
+        switch (type) {
+            case "Byte":
+                return (byte) r;
+            case "Short":
+                return (short) r;
+            case "Integer":
+                return r;
+            case "Long":
+                return (long) r;
+            case "Float":
+                return (float) r;
+            case "Double":
+                return (double) r;
+            case "BigInteger":
+                return BigInteger.valueOf(r);
+            default:
+                return BigDecimal.valueOf(r, 2);
+        }
+    }
+}
@@ -0,0 +1,860 @@
+package mz;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+
+/**
+ * Type-specialized running sum used by the summation.<br>
+ * The type of the values is resolved once, then every subclass adds the values of its own type on a primitive (or a single running) accumulator,
+ * only the result is boxed. If a wider value arrives, the accumulator is promoted to the widest type seen with {@link #widen(NumberType)}.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+abstract class Accumulator {
+
+    /**
+     * Type of the sum.
+     */
+    final NumberType type;
+
+    /**
+     * Boxed class of the sum, the elements of this exact class take the fast path.
+     */
+    final Class<? extends Number> numberClass;
+
+    /**
+     * Mode of the summation, a promoted accumulator keeps it.
+     */
+    final SummationMode mode;
+
+    Accumulator(NumberType type, SummationMode mode) {
+        this.type = type;
+        this.numberClass = type.numberClass;
+        this.mode = mode;
+    }
+
+    /**
+     * Creates an empty accumulator of the specified type.
+     * @param type type of the sum.
+     * @return accumulator with zero sum.
+     */
+    static Accumulator of(NumberType type) {
+        return of(type, SummationMode.DEFAULT);
+    }
+
+    /**
+     * Creates an empty accumulator of the specified type for the selected mode.<br>
+     * {@code COMPENSATED} and {@code PAIRWISE} only change the float and double sums.
+     * @param type type of the sum.
+     * @param mode mode of the summation.
+     * @return accumulator with zero sum.
+     */
+    static Accumulator of(NumberType type, SummationMode mode) {
+        switch (type) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+                return new OfInt(type, mode);
+            case LONG:
+                return new OfLong(mode);
+            case FLOAT:
+            case DOUBLE:
+                if (mode == SummationMode.COMPENSATED) {
+                    return new Compensated(type);
+                } else if (mode == SummationMode.PAIRWISE) {
+                    return new Pairwise(type);
+                } else if (type == NumberType.FLOAT) {
+                    return new OfFloat(mode);
+                } else {
+                    return new OfDouble(mode);
+                }
+            case BIG_INTEGER:
+                return new OfBigInteger(mode);
+            default:
+                return new OfBigDecimal(mode);
+        }
+    }
+
+    /**
+     * Adds a value that is not wider than the type of the accumulator.
+     * @param value value to add, not null.
+     */
+    abstract void accumulate(Number value);
+
+    /**
+     * @return boxed sum in the type of the accumulator.
+     */
+    abstract Number result();
+
+    /**
+     * Subtracts a value that is not wider than the type of the accumulator, the exact inverse of {@link #accumulate(Number)}.<br>
+     * Only the integral and the BigDecimal sums support it, a rounded floating point addition cannot be undone.
+     * @param value value to subtract, not null.
+     * @throws UnsupportedOperationException if the sum is a float or double sum.
+     */
+    void subtract(Number value) {
+        throw new UnsupportedOperationException("A " + type + " sum cannot subtract exactly");
+    }
+
+    /**
+     * Adds a value if it is not wider than the type of the accumulator.
+     * @param value value to add, not null.
+     * @return false if the value is wider, then nothing was added.
+     */
+    boolean add(Number value) {
+        if (value.getClass() != numberClass && type.widen(NumberType.of(value)) != type) {
+            return false;
+        }
+        accumulate(value);
+        return true;
+    }
+
+    /**
+     * Adds the values of the array in the specified range until a wider value is found, null values are skipped.
+     * @param values values to add.
+     * @param from index of the first value, inclusive.
+     * @param to index of the last value, exclusive.
+     * @return index of the wider value, or {@code to} if every value was added.
+     */
+    int addAll(Number[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Number value = values[i];
+            if (value != null && !add(value)) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Adds the values of the iterator until a wider value is found, null values are skipped.
+     * @param values values to add.
+     * @return the wider value that was not added, or null if the iterator is exhausted.
+     */
+    Number addAll(Iterator<? extends Number> values) {
+        while (values.hasNext()) {
+            Number value = values.next();
+            if (value != null && !add(value)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Promotes the accumulator to the type that can hold both the current sum and the specified type.
+     * @param other type of the value that did not fit.
+     * @return new accumulator holding the current sum.
+     */
+    Accumulator widen(NumberType other) {
+        Accumulator wider = of(type.widen(other), mode);
+        wider.accumulate(result());
+        return wider;
+    }
+
+    /**
+     * Adds the sum of another accumulator, the type of the result is the widest type of the two.
+     * @param other accumulator holding a partial sum.
+     * @return the accumulator holding both sums, it is a new instance if it was promoted.
+     */
+    Accumulator merge(Accumulator other) {
+        Accumulator target = type.widen(other.type) == type ? this : widen(other.type);
+        target.accumulate(other.result());
+        return target;
+    }
+
+    /**
+     * Merges two partial sums, either of them can be null if its range had no value.
+     * @param left partial sum of the earlier values.
+     * @param right partial sum of the later values.
+     * @return accumulator holding both sums, null if both are null.
+     */
+    static Accumulator combine(Accumulator left, Accumulator right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else {
+            return left.merge(right);
+        }
+    }
+
+    /**
+     * byte, short and int sum, narrowed at the end like the boxed addition.
+     */
+    static final class OfInt extends Accumulator {
+
+        private int sum;
+
+        OfInt(NumberType type, SummationMode mode) {
+            super(type, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            sum += value.intValue();
+        }
+
+        @Override
+        void subtract(Number value) {
+            sum -= value.intValue();
+        }
+
+        @Override
+        Number result() {
+            if (type == NumberType.BYTE) {
+                return (byte) sum;
+            } else if (type == NumberType.SHORT) {
+                return (short) sum;
+            } else {
+                return sum;
+            }
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value != null && value.getClass() == numberClass) {
+                    sum += value.intValue();
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value != null && value.getClass() == numberClass) {
+                    sum += value.intValue();
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * long sum.
+     */
+    static final class OfLong extends Accumulator {
+
+        private long sum;
+
+        OfLong(SummationMode mode) {
+            super(NumberType.LONG, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            sum += value.longValue();
+        }
+
+        @Override
+        void subtract(Number value) {
+            sum -= value.longValue();
+        }
+
+        @Override
+        Number result() {
+            return sum;
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value instanceof Long) {
+                    sum += (Long) value;
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value instanceof Long) {
+                    sum += (Long) value;
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * float sum, the values are added in float like the boxed addition.
+     */
+    static final class OfFloat extends Accumulator {
+
+        private float sum;
+
+        OfFloat(SummationMode mode) {
+            super(NumberType.FLOAT, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            sum += value.floatValue();
+        }
+
+        @Override
+        Number result() {
+            return sum;
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value instanceof Float) {
+                    sum += (Float) value;
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value instanceof Float) {
+                    sum += (Float) value;
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * double sum.
+     */
+    static final class OfDouble extends Accumulator {
+
+        private double sum;
+
+        OfDouble(SummationMode mode) {
+            super(NumberType.DOUBLE, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            sum += value.doubleValue();
+        }
+
+        @Override
+        Number result() {
+            return sum;
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value instanceof Double) {
+                    sum += (Double) value;
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value instanceof Double) {
+                    sum += (Double) value;
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * BigInteger sum, exact.<br>
+     * Values up to 63 bits are added in a 128-bit accumulator, only wider BigIntegers go to a running BigInteger.
+     * The result is created when it is materialized.
+     */
+    static final class OfBigInteger extends Accumulator {
+
+        private final Int128 sum = new Int128();
+
+        /**
+         * Sum of the values wider than a long, null until the first such value.
+         */
+        private BigInteger wide;
+
+        OfBigInteger(SummationMode mode) {
+            super(NumberType.BIG_INTEGER, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            if (value instanceof BigInteger) {
+                accumulate((BigInteger) value);
+            } else {
+                sum.add(value.longValue());
+            }
+        }
+
+        private void accumulate(BigInteger value) {
+            if (value.bitLength() < 64) {
+                sum.add(value.longValue());
+            } else {
+                wide = wide == null ? value : wide.add(value);
+            }
+        }
+
+        @Override
+        void subtract(Number value) {
+            if (value instanceof BigInteger) {
+                accumulate(((BigInteger) value).negate());
+            } else {
+                sum.subtract(value.longValue());
+            }
+        }
+
+        @Override
+        Number result() {
+            BigInteger result = sum.toBigInteger();
+            return wide == null ? result : result.add(wide);
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value instanceof BigInteger) {
+                    accumulate((BigInteger) value);
+                } else if (value instanceof Long) {
+                    sum.add((Long) value);
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value instanceof BigInteger) {
+                    accumulate((BigInteger) value);
+                } else if (value instanceof Long) {
+                    sum.add((Long) value);
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * BigDecimal sum, exact.<br>
+     * While the values have at most 18 digits and their scale is not larger than the scale of the sum,
+     * their unscaled values are added in a long. On overflow or on a larger scale the value goes to a single running BigDecimal.
+     */
+    static final class OfBigDecimal extends Accumulator {
+
+        private static final long[] TEN_POWERS = {
+                1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+                10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+                1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+        };
+
+        /**
+         * Part of the sum that did not fit in the long, null until the first such value.
+         */
+        private BigDecimal sum;
+
+        /**
+         * Unscaled value of the long part of the sum.
+         */
+        private long unscaled;
+
+        /**
+         * Scale of the long part, taken from the first value that fits.
+         */
+        private int scale;
+
+        private boolean scaled;
+
+        OfBigDecimal(SummationMode mode) {
+            super(NumberType.BIG_DECIMAL, mode);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            accumulate(NumberType.toBigDecimal(value));
+        }
+
+        @Override
+        void subtract(Number value) {
+            accumulate(NumberType.toBigDecimal(value).negate());
+        }
+
+        private void accumulate(BigDecimal value) {
+            if (value.precision() <= 18) {
+                if (!scaled) {
+                    scale = value.scale();
+                    scaled = true;
+                }
+                int shift = scale - value.scale();
+                if (shift >= 0 && shift < TEN_POWERS.length) {
+                    long u = value.unscaledValue().longValue();
+                    if (shift > 0) {
+                        long power = TEN_POWERS[shift];
+                        long low = u * power;
+                        if (Math.multiplyHigh(u, power) != (low >> 63)) {
+                            inflate(value);
+                            return;
+                        }
+                        u = low;
+                    }
+                    long r = unscaled + u;
+                    if (((unscaled ^ r) & (u ^ r)) < 0) {
+                        inflate(BigDecimal.valueOf(unscaled, scale));
+                        unscaled = u;
+                    } else {
+                        unscaled = r;
+                    }
+                    return;
+                }
+            }
+            inflate(value);
+        }
+
+        private void inflate(BigDecimal value) {
+            sum = sum == null ? value : sum.add(value);
+        }
+
+        @Override
+        Number result() {
+            if (!scaled) {
+                return sum == null ? BigDecimal.ZERO : sum;
+            } else if (sum == null) {
+                return BigDecimal.valueOf(unscaled, scale);
+            } else {
+                return sum.add(BigDecimal.valueOf(unscaled, scale));
+            }
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            for (int i = from; i < to; i++) {
+                Number value = values[i];
+                if (value instanceof BigDecimal) {
+                    accumulate((BigDecimal) value);
+                } else if (value != null) {
+                    accumulate(value);
+                }
+            }
+            return to;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value instanceof BigDecimal) {
+                    accumulate((BigDecimal) value);
+                } else if (value != null) {
+                    accumulate(value);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * float and double sum with Neumaier compensation.<br>
+     * The values are added in double, the lost low-order bits are collected in a second double and added back in the result.
+     */
+    static final class Compensated extends Accumulator {
+
+        private double sum;
+        private double compensation;
+
+        Compensated(NumberType type) {
+            super(type, SummationMode.COMPENSATED);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            accumulate(value.doubleValue());
+        }
+
+        private void accumulate(double value) {
+            double t = sum + value;
+            compensation += correction(sum, value, t);
+            sum = t;
+        }
+
+        @Override
+        Number result() {
+            double result = Double.isFinite(sum) ? sum + compensation : sum;
+            if (type == NumberType.FLOAT) {
+                return (float) result;
+            } else {
+                return result;
+            }
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value != null && value.getClass() == numberClass) {
+                    accumulate(value.doubleValue());
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value != null && value.getClass() == numberClass) {
+                    accumulate(value.doubleValue());
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Accumulator merge(Accumulator other) {
+            if (other instanceof Compensated) {
+                Compensated target = type.widen(other.type) == type ? this : (Compensated) widen(other.type);
+                target.accumulate(((Compensated) other).sum);
+                target.accumulate(((Compensated) other).compensation);
+                return target;
+            }
+            return super.merge(other);
+        }
+
+        @Override
+        Accumulator widen(NumberType other) {
+            if (type.widen(other) == NumberType.DOUBLE) {
+                Compensated wider = new Compensated(NumberType.DOUBLE);
+                wider.sum = sum;
+                wider.compensation = compensation;
+                return wider;
+            }
+            return super.widen(other);
+        }
+
+        /**
+         * Neumaier sum of a double array.
+         * @param values array whose sum of values you want.
+         * @return compensated sum.
+         */
+        static double sum(double[] values) {
+            double sum = 0;
+            double compensation = 0;
+            for (double value : values) {
+                double t = sum + value;
+                compensation += correction(sum, value, t);
+                sum = t;
+            }
+            return Double.isFinite(sum) ? sum + compensation : sum;
+        }
+
+        /**
+         * Neumaier sum of a float array, the values are added in double.
+         * @param values array whose sum of values you want.
+         * @return compensated sum rounded to float.
+         */
+        static float sum(float[] values) {
+            double sum = 0;
+            double compensation = 0;
+            for (float value : values) {
+                double t = sum + value;
+                compensation += correction(sum, value, t);
+                sum = t;
+            }
+            return (float) (Double.isFinite(sum) ? sum + compensation : sum);
+        }
+
+        /**
+         * Low-order bits lost by a Neumaier step.<br>
+         * An infinite or NaN sum has no low-order bits, its correction would be NaN, so it is zero and the sum stays infinite or NaN like the naive sum.
+         * @param sum running sum before the step.
+         * @param value value added.
+         * @param t running sum after the step.
+         * @return the error of {@code t}, zero if {@code t} is not finite.
+         */
+        static double correction(double sum, double value, double t) {
+            if (!Double.isFinite(t)) {
+                return 0;
+            } else if (Math.abs(sum) >= Math.abs(value)) {
+                return (sum - t) + value;
+            }
+            return (value - t) + sum;
+        }
+    }
+
+    /**
+     * float and double sum with pairwise (cascade) summation.<br>
+     * Blocks of {@value #BLOCK} values are added naively, then the block sums are combined like a binary counter,
+     * so every block sum is only added to sums of similar size. The error grows with log(n) instead of n.
+     */
+    static final class Pairwise extends Accumulator {
+
+        static final int BLOCK = 128;
+
+        /**
+         * Sum of 2<sup>level</sup> blocks on every level whose bit is set in {@link #blocks}.
+         */
+        private final double[] levels = new double[64];
+        private long blocks;
+        private double block;
+        private int blockSize;
+
+        Pairwise(NumberType type) {
+            super(type, SummationMode.PAIRWISE);
+        }
+
+        @Override
+        void accumulate(Number value) {
+            accumulate(value.doubleValue());
+        }
+
+        private void accumulate(double value) {
+            block += value;
+            if (++blockSize == BLOCK) {
+                double carry = block;
+                long n = blocks++;
+                int level = 0;
+                while ((n & 1) == 1) {
+                    carry += levels[level];
+                    n >>>= 1;
+                    level++;
+                }
+                levels[level] = carry;
+                block = 0;
+                blockSize = 0;
+            }
+        }
+
+        @Override
+        Number result() {
+            double result = block;
+            long n = blocks;
+            for (int level = 0; n != 0; level++, n >>>= 1) {
+                if ((n & 1) == 1) {
+                    result += levels[level];
+                }
+            }
+            if (type == NumberType.FLOAT) {
+                return (float) result;
+            } else {
+                return result;
+            }
+        }
+
+        @Override
+        int addAll(Number[] values, int from, int to) {
+            int i = from;
+            for (; i < to; i++) {
+                Number value = values[i];
+                if (value != null && value.getClass() == numberClass) {
+                    accumulate(value.doubleValue());
+                } else if (value != null && !add(value)) {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        Number addAll(Iterator<? extends Number> values) {
+            while (values.hasNext()) {
+                Number value = values.next();
+                if (value != null && value.getClass() == numberClass) {
+                    accumulate(value.doubleValue());
+                } else if (value != null && !add(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Accumulator widen(NumberType other) {
+            if (type.widen(other) == NumberType.DOUBLE) {
+                Pairwise wider = new Pairwise(NumberType.DOUBLE);
+                System.arraycopy(levels, 0, wider.levels, 0, levels.length);
+                wider.blocks = blocks;
+                wider.block = block;
+                wider.blockSize = blockSize;
+                return wider;
+            }
+            return super.widen(other);
+        }
+
+        /**
+         * Pairwise sum of a part of a double array.
+         * @param values array whose sum of values you want.
+         * @param from first index, inclusive.
+         * @param to last index, exclusive.
+         * @return pairwise sum.
+         */
+        static double sum(double[] values, int from, int to) {
+            if (to - from <= BLOCK) {
+                return SummationKernel.sumUnordered(values, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            return sum(values, from, middle) + sum(values, middle, to);
+        }
+
+        /**
+         * Pairwise sum of a part of a float array, the values are added in double.
+         * @param values array whose sum of values you want.
+         * @param from first index, inclusive.
+         * @param to last index, exclusive.
+         * @return pairwise sum.
+         */
+        static double sum(float[] values, int from, int to) {
+            if (to - from <= BLOCK) {
+                double sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += values[i];
+                }
+                return sum;
+            }
+            int middle = (from + to) >>> 1;
+            return sum(values, from, middle) + sum(values, middle, to);
+        }
+    }
+}
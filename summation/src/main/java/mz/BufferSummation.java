@@ -0,0 +1,168 @@
+package mz;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sums binary values directly from ByteBuffers, the values are read with absolute gets, nothing is copied to the heap.<br>
+ * Direct buffers keep off-heap data off-heap, the values can be interleaved with other fields of a record by a stride.
+ * A file is mapped in chunks of {@value #CHUNK} bytes, so files over 2 GB are walked through several mappings.
+ * The parallel summation splits the file into blocks of {@value #BLOCK} bytes.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class BufferSummation {
+
+    /**
+     * Size of one mapping, a multiple of every element size.
+     */
+    static final int CHUNK = 1 << 30;
+
+    /**
+     * Size of the blocks the parallel summation distributes, a divisor of {@link #CHUNK}.
+     */
+    static final int BLOCK = 1 << 20;
+
+    /**
+     * Cannot be instantiated!
+     */
+    private BufferSummation(){}
+
+    /**
+     * Sums a binary file of values in the specified byte order.
+     * @param path file to map.
+     * @param type layout of the values.
+     * @param order byte order of the values.
+     * @param pool pool that sums the blocks, null to sum them in the calling thread in file order.
+     * @return sum of the values, null if the file is empty.
+     * @throws IllegalArgumentException if the size of the file is not a multiple of the size of a value.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    static Number sumMapped(Path path, ElementType type, ByteOrder order, ForkJoinPool pool) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % type.bytes != 0) {
+                throw new IllegalArgumentException("Truncated file! The last value has " + size % type.bytes + " of " + type.bytes + " bytes");
+            } else if (size == 0) {
+                return null;
+            }
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK - 1) / CHUNK)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i * CHUNK;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK, size - position));
+                chunks[i].order(order);
+            }
+            int blocks = (int) ((size + BLOCK - 1) / BLOCK);
+            RangeTask.Leaf<Number> leaf = (from, to) -> sumBlocks(chunks, type, (long) from * BLOCK, Math.min((long) to * BLOCK, size));
+            if (pool == null) {
+                return leaf.compute(0, blocks);
+            }
+            int threshold = blocks / (pool.getParallelism() * 4);
+            return new RangeTask<>(0, blocks, threshold, leaf, (a, b) -> combine(type, a, b)).invoke(pool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sums the values of the remaining part of a buffer, the position and the limit of the buffer are not changed.<br>
+     * The first value starts {@code offset} bytes after the position, every next one {@code stride} bytes later, while it ends before the limit.
+     * @param buffer buffer of the values in its own byte order.
+     * @param type layout of the values.
+     * @param offset distance of the first value from the position in bytes.
+     * @param stride distance of two values in bytes, at least the size of a value.
+     * @param pool pool that sums the ranges, null to sum them in the calling thread in buffer order.
+     * @return sum of the values, null if there is none.
+     * @throws IllegalArgumentException if the offset is negative or the stride is smaller than a value.
+     */
+    static Number sum(ByteBuffer buffer, ElementType type, int offset, int stride, ForkJoinPool pool) {
+        if (offset < 0 || stride < type.bytes) {
+            throw new IllegalArgumentException("Offset cannot be negative and stride cannot be smaller than " + type.bytes + " bytes");
+        }
+        int base = buffer.position() + offset;
+        int space = buffer.limit() - base - type.bytes;
+        int count = space < 0 ? 0 : space / stride + 1;
+        if (count == 0) {
+            return null;
+        } else if (pool == null) {
+            return sum(buffer, type, base, count, stride);
+        }
+        return new RangeTask<>(0, count, (from, to) -> sum(buffer, type, base + from * stride, to - from, stride), (a, b) -> combine(type, a, b)).invoke(pool);
+    }
+
+    /**
+     * Sums the values of a byte range of the mapped file, the range can cross the border of two mappings.
+     * @param chunks mappings of the file.
+     * @param type layout of the values.
+     * @param from first byte, inclusive.
+     * @param to last byte, exclusive.
+     * @return sum of the range.
+     */
+    private static Number sumBlocks(MappedByteBuffer[] chunks, ElementType type, long from, long to) {
+        Number sum = null;
+        for (long position = from; position < to; ) {
+            int chunk = (int) (position / CHUNK);
+            int offset = (int) (position % CHUNK);
+            int length = (int) (Math.min(to, (long) (chunk + 1) * CHUNK) - position);
+            Number part = sum(chunks[chunk], type, offset, length / type.bytes, type.bytes);
+            sum = sum == null ? part : combine(type, sum, part);
+            position += length;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums values of a buffer with absolute gets, the position and the limit of the buffer are not used.
+     * @param buffer buffer of the values in its own byte order.
+     * @param type layout of the values.
+     * @param offset byte index of the first value.
+     * @param count number of values.
+     * @param stride distance of two values in bytes.
+     * @return sum of the values, its type belongs to the layout.
+     */
+    static Number sum(ByteBuffer buffer, ElementType type, int offset, int count, int stride) {
+        if (type == ElementType.INT32) {
+            int sum = 0;
+            for (int i = 0, index = offset; i < count; i++, index += stride) {
+                sum += buffer.getInt(index);
+            }
+            return sum;
+        } else if (type == ElementType.INT64) {
+            long sum = 0;
+            for (int i = 0, index = offset; i < count; i++, index += stride) {
+                sum += buffer.getLong(index);
+            }
+            return sum;
+        } else {
+            double sum = 0;
+            for (int i = 0, index = offset; i < count; i++, index += stride) {
+                sum += buffer.getDouble(index);
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Adds two partial sums of the same layout.
+     * @param type layout of the values.
+     * @param a left partial sum.
+     * @param b right partial sum.
+     * @return sum of the two.
+     */
+    static Number combine(ElementType type, Number a, Number b) {
+        if (type == ElementType.INT32) {
+            return a.intValue() + b.intValue();
+        } else if (type == ElementType.INT64) {
+            return a.longValue() + b.longValue();
+        } else {
+            return a.doubleValue() + b.doubleValue();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package mz;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Column sums of boxed rows: {@code Number[][]}, a Collection of {@code Number[]} or a Collection of Lists.<br>
+ * Every column has primitive accumulators, an exact 128-bit integral sum in two long arrays, a float sum and a double sum,
+ * only the columns that meet a BigInteger or a BigDecimal value get a {@link MixedSum}.
+ * Float values are added in float like {@link Summation#summation(Object)}, so a column of Float values has the same sum as the column alone.
+ * The rows are walked in tiles of {@link #TILE} columns, so the accumulators of a wide matrix stay in the cache while the rows pass over them.
+ * A parallel summation gives every worker its own column vectors and merges them at the end.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+final class ColumnSummation {
+
+    private static final NumberType[] TYPES = NumberType.values();
+
+    /**
+     * Number of columns of a tile, the accumulators of a tile take about 29 KiB.
+     */
+    static final int TILE = 1 << 10;
+
+    private final long[] low;
+    private final long[] high;
+    private final float[] floats;
+    private final double[] floating;
+
+    /**
+     * Widest type of a column plus one, zero if the column has no value yet.
+     */
+    private final byte[] types;
+
+    /**
+     * Big sums of the columns, null until the first BigInteger or BigDecimal value.
+     */
+    private MixedSum[] bigs;
+
+    ColumnSummation(int columns) {
+        low = new long[columns];
+        high = new long[columns];
+        floats = new float[columns];
+        floating = new double[columns];
+        types = new byte[columns];
+    }
+
+    /**
+     * Collects the rows of a boxed matrix, a row is either a {@code Number[]} or a RandomAccess List.
+     * @param x Number[][], Collection of Number[] or Collection of Collections.
+     * @return rows of the matrix.
+     * @throws IllegalArgumentException if the type is not supported.
+     */
+    static Object[] rows(Object x) {
+        if (x instanceof Number[][]) {
+            return (Object[]) x;
+        } else if (x instanceof Collection) {
+            Object[] rows = ((Collection<?>) x).toArray();
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] instanceof Collection && !(rows[i] instanceof List && rows[i] instanceof RandomAccess)) {
+                    rows[i] = ((Collection<?>) rows[i]).toArray(new Number[0]);
+                } else if (!(rows[i] instanceof Number[] || rows[i] instanceof List)) {
+                    throw new IllegalArgumentException("Unsupported type! Supported type: Collection of Number[], Collection of Collection");
+                }
+            }
+            return rows;
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number[][], Collection of Number[], Collection of Collection");
+        }
+    }
+
+    /**
+     * @param rows rows of the matrix.
+     * @return length of the longest row.
+     */
+    static int columns(Object[] rows) {
+        int max = 0;
+        for (Object row : rows) {
+            max = Math.max(max, row instanceof Number[] ? ((Number[]) row).length : ((List<?>) row).size());
+        }
+        return max;
+    }
+
+    /**
+     * Adds the rows of a range tile by tile.
+     * @param rows rows of the matrix.
+     * @param from first row, inclusive.
+     * @param to last row, exclusive.
+     * @return this summation.
+     */
+    ColumnSummation add(Object[] rows, int from, int to) {
+        for (int tile = 0; tile < types.length; tile += TILE) {
+            int end = Math.min(types.length, tile + TILE);
+            for (int i = from; i < to; i++) {
+                if (rows[i] instanceof Number[]) {
+                    Number[] row = (Number[]) rows[i];
+                    for (int j = tile, length = Math.min(end, row.length); j < length; j++) {
+                        add(j, row[j]);
+                    }
+                } else {
+                    List<? extends Number> row = (List<? extends Number>) rows[i];
+                    for (int j = tile, length = Math.min(end, row.size()); j < length; j++) {
+                        add(j, row.get(j));
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the column vectors of another summation of the same matrix.
+     * @param other summation of other rows, it is not changed.
+     * @return this summation.
+     */
+    ColumnSummation merge(ColumnSummation other) {
+        for (int j = 0; j < types.length; j++) {
+            if (other.types[j] == 0) {
+                continue;
+            }
+            long sum = low[j] + other.low[j];
+            high[j] += other.high[j] + (Long.compareUnsigned(sum, low[j]) < 0 ? 1 : 0);
+            low[j] = sum;
+            floats[j] += other.floats[j];
+            floating[j] += other.floating[j];
+            types[j] = types[j] == 0 ? other.types[j] : widen(types[j], other.types[j]);
+            if (other.bigs != null && other.bigs[j] != null) {
+                big(j).merge(other.bigs[j]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Converts the column sums to the widest type of their column, integral sums are narrowed like the boxed addition.<br>
+     * The float and double sums are added to the integral sum as they are, so an infinite or NaN sum stays as it is.
+     * @return one sum per column, null for a column without value.
+     */
+    Number[] result() {
+        Number[] sums = new Number[types.length];
+        for (int j = 0; j < sums.length; j++) {
+            if (types[j] != 0) {
+                NumberType type = TYPES[types[j] - 1];
+                MixedSum sum = bigs == null || bigs[j] == null ? new MixedSum() : bigs[j].copy();
+                sum.add(high[j], low[j]);
+                if (type == NumberType.FLOAT) {
+                    sums[j] = Float.valueOf(floats[j] + sum.result(type).floatValue());
+                } else if (type == NumberType.DOUBLE) {
+                    sums[j] = Double.valueOf(floating[j] + floats[j] + sum.result(type).doubleValue());
+                } else {
+                    sum.add(floats[j]);
+                    sum.add(floating[j]);
+                    sums[j] = sum.result(type);
+                }
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Adds a value to its column.
+     * @param column index of the column.
+     * @param value value to add, null is skipped.
+     */
+    private void add(int column, Number value) {
+        if (value == null) {
+            return;
+        }
+        NumberType type = NumberType.of(value);
+        byte code = (byte) (type.ordinal() + 1);
+        types[column] = types[column] == 0 ? code : widen(types[column], code);
+        if (type.compareTo(NumberType.LONG) <= 0) {
+            long v = value.longValue();
+            long sum = low[column] + v;
+            high[column] += (v >> 63) + (Long.compareUnsigned(sum, low[column]) < 0 ? 1 : 0);
+            low[column] = sum;
+        } else if (type == NumberType.FLOAT) {
+            floats[column] += value.floatValue();
+        } else if (type == NumberType.DOUBLE) {
+            floating[column] += value.doubleValue();
+        } else {
+            big(column).addBig(value);
+        }
+    }
+
+    /**
+     * @param column index of the column.
+     * @return the big sum of the column, created on the first use.
+     */
+    private MixedSum big(int column) {
+        if (bigs == null) {
+            bigs = new MixedSum[types.length];
+        }
+        if (bigs[column] == null) {
+            bigs[column] = new MixedSum();
+        }
+        return bigs[column];
+    }
+
+    private static byte widen(byte a, byte b) {
+        return a == b ? a : (byte) (TYPES[a - 1].widen(TYPES[b - 1]).ordinal() + 1);
+    }
+}
@@ -0,0 +1,364 @@
+package mz;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Running sum that many threads can update at the same time without locking, like {@link java.util.concurrent.atomic.LongAdder}
+ * but for every Number type of {@link Summation#summation(Object)}.<br>
+ * The updates go to a base cell until two threads collide on it, then to an array of cells chosen by a per-thread probe.
+ * On further collisions the thread moves to another cell and the array is doubled up to the number of processors,
+ * so the throughput grows with the number of writers.
+ * Every cell keeps a long integral sum, a double sum and, for BigInteger and BigDecimal values, exact big sums.
+ * An integral value that would overflow the long sum of its cell is spilled to the BigInteger sum, so the integral sum stays exact.
+ * The cells are padded to their own cache lines.
+ * The type of the result is the widest type added, integral sums are narrowed to it like the boxed addition.
+ * Every cell records the types added to it, so the type of a sum is taken from the cells it was read from.
+ * {@link #sum()} is not an atomic snapshot, values added during the call may or may not be counted.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class ConcurrentSummationAccumulator<V extends Number> {
+
+    /**
+     * Maximum number of cells.
+     */
+    private static final int MAX_CELLS = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+
+    /**
+     * Probe of the thread, it selects the cell and is moved after a collision.
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[]{ThreadLocalRandom.current().nextInt() | 1});
+
+    private static final VarHandle CELLS_BUSY;
+
+    static {
+        try {
+            CELLS_BUSY = MethodHandles.lookup().findVarHandle(ConcurrentSummationAccumulator.class, "cellsBusy", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Cell base = new Cell();
+    private volatile Cell[] cells;
+
+    /**
+     * Spin lock of the creation and the expansion of the cells.
+     */
+    private volatile int cellsBusy;
+
+    /**
+     * Adds a value, it can be called from any thread.
+     * @param value value to add, null is skipped.
+     * @return this accumulator.
+     */
+    public ConcurrentSummationAccumulator<V> add(V value) {
+        if (value == null) {
+            return this;
+        }
+        NumberType valueType = NumberType.of(value);
+        Cell[] cs = cells;
+        if (cs == null && base.tryAdd(value, valueType)) {
+            return this;
+        }
+        int[] probe = PROBE.get();
+        boolean collided = false;
+        while (true) {
+            cs = cells;
+            if (cs == null) {
+                if (base.tryAdd(value, valueType)) {
+                    return this;
+                }
+                expand(null);
+                continue;
+            }
+            Cell cell = cs[probe[0] & (cs.length - 1)];
+            if (cell.tryAdd(value, valueType)) {
+                return this;
+            } else if (collided && cs.length < MAX_CELLS) {
+                expand(cs);
+                collided = false;
+            } else {
+                collided = true;
+            }
+            int h = probe[0];
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+            probe[0] = h;
+        }
+    }
+
+    /**
+     * Calculates the current sum, the accumulator is not changed.
+     * @return the sum of the values with the type of the widest value, null if no value was added.
+     */
+    public V sum() {
+        Snapshot snapshot = new Snapshot();
+        snapshot.add(base, false);
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell cell : cs) {
+                snapshot.add(cell, false);
+            }
+        }
+        return (V) snapshot.result();
+    }
+
+    /**
+     * Calculates the current sum and empties the accumulator cell by cell.<br>
+     * A value added during the call is either counted in the returned sum or kept for the next one, together with its type.
+     * The calls of this method are serialized, {@link #add(Number)} and {@link #sum()} never wait for them.
+     * @return the sum of the values with the type of the widest value, null if no value was added.
+     */
+    public synchronized V sumThenReset() {
+        Snapshot snapshot = new Snapshot();
+        snapshot.add(base, true);
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell cell : cs) {
+                snapshot.add(cell, true);
+            }
+        }
+        return (V) snapshot.result();
+    }
+
+    /**
+     * Empties the accumulator like {@link #sumThenReset()}, the sum is dropped.
+     */
+    public void reset() {
+        sumThenReset();
+    }
+
+    /**
+     * Creates the cells or doubles their number, nothing happens if another thread is doing it.
+     * @param expected the cells seen by the caller, null if there was none.
+     */
+    private void expand(Cell[] expected) {
+        if (cellsBusy == 0 && CELLS_BUSY.compareAndSet(this, 0, 1)) {
+            try {
+                if (cells == expected) {
+                    Cell[] expanded = new Cell[expected == null ? 2 : expected.length << 1];
+                    int i = 0;
+                    if (expected != null) {
+                        for (; i < expected.length; i++) {
+                            expanded[i] = expected[i];
+                        }
+                    }
+                    for (; i < expanded.length; i++) {
+                        expanded[i] = new Cell();
+                    }
+                    cells = expanded;
+                }
+            } finally {
+                cellsBusy = 0;
+            }
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Padding before the fields of a cell, so two cells do not share a cache line.
+     */
+    private abstract static class CellPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * Fields of a cell.
+     */
+    private abstract static class CellFields extends CellPadding {
+
+        /**
+         * Integral sum while it fits in a long.
+         */
+        volatile long low;
+
+        /**
+         * Bits of the double sum.
+         */
+        volatile long bits;
+
+        /**
+         * BigInteger values wider than a long and the integral values that would overflow {@link #low}.
+         */
+        volatile BigInteger wide;
+
+        volatile BigDecimal decimal;
+
+        /**
+         * Types added to the cell, one bit per ordinal of {@link NumberType}.
+         */
+        volatile int types;
+    }
+
+    /**
+     * One stripe of the sum, every value is added to exactly one field with a single compare-and-set,
+     * so a reader never sees half of an update.
+     */
+    private static final class Cell extends CellFields {
+
+        private static final VarHandle LOW;
+        private static final VarHandle BITS;
+        private static final VarHandle WIDE;
+        private static final VarHandle DECIMAL;
+        private static final VarHandle TYPES;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                LOW = lookup.findVarHandle(CellFields.class, "low", long.class);
+                BITS = lookup.findVarHandle(CellFields.class, "bits", long.class);
+                WIDE = lookup.findVarHandle(CellFields.class, "wide", BigInteger.class);
+                DECIMAL = lookup.findVarHandle(CellFields.class, "decimal", BigDecimal.class);
+                TYPES = lookup.findVarHandle(CellFields.class, "types", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Padding after the fields.
+         */
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        /**
+         * Tries to add a value with one compare-and-set.<br>
+         * The type is recorded before the value, so a reader that sees the value sees its type,
+         * and again after it, so a value kept by {@link #sumThenReset()} keeps its type.
+         * @param value value to add.
+         * @param valueType type of the value.
+         * @return false if another thread changed the cell at the same time, then nothing was added.
+         */
+        boolean tryAdd(Number value, NumberType valueType) {
+            int bit = 1 << valueType.ordinal();
+            mark(bit);
+            if (tryAddValue(value, valueType)) {
+                mark(bit);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @param bit bit of a type to record, nothing is written if it is already set.
+         */
+        private void mark(int bit) {
+            if ((types & bit) == 0) {
+                TYPES.getAndBitwiseOr(this, bit);
+            }
+        }
+
+        /**
+         * @param value value to add.
+         * @param valueType type of the value.
+         * @return false if another thread changed the cell at the same time, then nothing was added.
+         */
+        private boolean tryAddValue(Number value, NumberType valueType) {
+            if (valueType.compareTo(NumberType.LONG) <= 0) {
+                return tryAdd(value.longValue());
+            } else if (valueType == NumberType.FLOAT || valueType == NumberType.DOUBLE) {
+                long current = bits;
+                return BITS.compareAndSet(this, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value.doubleValue()));
+            } else if (valueType == NumberType.BIG_INTEGER) {
+                BigInteger big = (BigInteger) value;
+                if (big.bitLength() < Long.SIZE) {
+                    return tryAdd(big.longValue());
+                }
+                return trySpill(big);
+            } else {
+                BigDecimal current = decimal;
+                BigDecimal big = NumberType.toBigDecimal(value);
+                return DECIMAL.compareAndSet(this, current, current == null ? big : current.add(big));
+            }
+        }
+
+        /**
+         * Adds an integral value to the long sum, a value that would overflow it is spilled to the big sum.
+         * @param value value to add.
+         * @return false if another thread changed the cell at the same time, then nothing was added.
+         */
+        private boolean tryAdd(long value) {
+            long current = low;
+            long updated = current + value;
+            if (((current ^ updated) & (value ^ updated)) < 0) {
+                return trySpill(BigInteger.valueOf(value));
+            }
+            return LOW.compareAndSet(this, current, updated);
+        }
+
+        /**
+         * @param big value to add to the big sum.
+         * @return false if another thread changed the big sum at the same time, then nothing was added.
+         */
+        private boolean trySpill(BigInteger big) {
+            BigInteger current = wide;
+            return WIDE.compareAndSet(this, current, current == null ? big : current.add(big));
+        }
+    }
+
+    /**
+     * Sum of the cells read one after the other.
+     */
+    private static final class Snapshot {
+
+        private static final NumberType[] TYPES = NumberType.values();
+
+        private final MixedSum sum = new MixedSum();
+
+        /**
+         * Types of the cells read, one bit per ordinal of {@link NumberType}.
+         */
+        private int types;
+
+        /**
+         * Adds the sums of a cell.<br>
+         * The types are read around the values: a value read was recorded before it was added,
+         * so its type is either taken before the values are emptied or still set when they are read.
+         * @param cell cell to read.
+         * @param reset true to empty the cell while it is read.
+         */
+        void add(Cell cell, boolean reset) {
+            BigInteger wide;
+            BigDecimal decimal;
+            if (reset) {
+                types |= (int) Cell.TYPES.getAndSet(cell, 0);
+                sum.add((long) Cell.LOW.getAndSet(cell, 0L));
+                sum.add(Double.longBitsToDouble((long) Cell.BITS.getAndSet(cell, 0L)));
+                wide = (BigInteger) Cell.WIDE.getAndSet(cell, (BigInteger) null);
+                decimal = (BigDecimal) Cell.DECIMAL.getAndSet(cell, (BigDecimal) null);
+            } else {
+                sum.add(cell.low);
+                sum.add(Double.longBitsToDouble(cell.bits));
+                wide = cell.wide;
+                decimal = cell.decimal;
+            }
+            types |= cell.types;
+            if (wide != null) {
+                sum.addBig(wide);
+            }
+            if (decimal != null) {
+                sum.addBig(decimal);
+            }
+        }
+
+        /**
+         * @return the sum in the widest type read, null if no type was read.
+         */
+        Number result() {
+            NumberType widest = null;
+            for (int bits = types; bits != 0; bits &= bits - 1) {
+                NumberType type = TYPES[Integer.numberOfTrailingZeros(bits)];
+                widest = widest == null ? type : widest.widen(type);
+            }
+            return sum.result(widest);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package mz;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Cached factories of the Collection and Map classes given to {@link Summation#summationCollection(Object, Class)} and {@link Summation#summationMap(Object, Class)}.<br>
+ * The public constructor of a class is looked up once, and a factory is generated for it with {@link LambdaMetafactory}.
+ * After that, creating an instance is a plain constructor call that can be inlined, with no reflection.
+ * The classes whose int constructor is an initial capacity are created pre-sized to the number of elements, every other class with its no-argument constructor.
+ * The int constructor of a bounded queue is its capacity, so only an explicit list of classes is pre-sized.
+ * Hash based classes get the capacity of the element count at the default load factor, so they never rehash while they are filled.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+final class ContainerFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Classes whose int constructor takes the initial capacity of a growing container.
+     */
+    private static final Set<Class<?>> SIZED = Set.of(ArrayList.class, Vector.class, ArrayDeque.class, PriorityQueue.class, ConcurrentHashMap.class);
+
+    /**
+     * Classes whose int constructor takes the capacity of the hash table, not the number of elements.
+     */
+    private static final Set<Class<?>> HASHED = Set.of(HashMap.class, LinkedHashMap.class, HashSet.class, LinkedHashSet.class, Hashtable.class, WeakHashMap.class);
+
+    /**
+     * Factory per class, the argument is the expected number of elements.
+     */
+    private static final ClassValue<IntFunction<Object>> CACHE = new ClassValue<>() {
+        @Override
+        protected IntFunction<Object> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Cannot be instantiated!
+     */
+    private ContainerFactory() {}
+
+    /**
+     * Creates an instance of the class.
+     * @param type Collection or Map class with a public constructor.
+     * @param size expected number of elements.
+     * @return new empty instance.
+     * @throws RuntimeException if the class has no public no-argument constructor or the constructor fails.
+     */
+    static <C> C newInstance(Class<C> type, int size) {
+        return (C) CACHE.get(type).apply(size);
+    }
+
+    /**
+     * Generates the factory of a class: the int capacity constructor of a pre-sized class, otherwise the no-argument constructor.
+     * @param type class to create.
+     * @return factory of the class, it throws if the class has no usable constructor.
+     */
+    private static IntFunction<Object> create(Class<?> type) {
+        boolean hashed = HASHED.contains(type);
+        if (hashed || SIZED.contains(type)) {
+            try {
+                MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class, int.class));
+                IntFunction<Object> sized = spin(constructor, IntFunction.class, "apply", MethodType.methodType(Object.class, int.class));
+                return hashed ? size -> sized.apply(hashCapacity(size)) : size -> sized.apply(Math.max(1, size));
+            } catch (ReflectiveOperationException ignored) {
+                // no capacity constructor, the no-argument one is used
+            }
+        }
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+            Supplier<Object> supplier = spin(constructor, Supplier.class, "get", MethodType.methodType(Object.class));
+            return size -> supplier.get();
+        } catch (ReflectiveOperationException e) {
+            return size -> {
+                throw new RuntimeException(e);
+            };
+        }
+    }
+
+    /**
+     * Generates an implementation of a functional interface that calls the constructor.<br>
+     * If the class cannot be linked from this package, the handle is invoked instead.
+     * @param constructor handle of the constructor.
+     * @param functionalInterface Supplier or IntFunction.
+     * @param method name of the method of the interface.
+     * @param erased erased type of the method.
+     * @return the implementation.
+     */
+    private static <F> F spin(MethodHandle constructor, Class<?> functionalInterface, String method, MethodType erased) {
+        try {
+            return (F) LambdaMetafactory.metafactory(LOOKUP, method, MethodType.methodType(functionalInterface), erased, constructor, constructor.type())
+                    .getTarget()
+                    .invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = constructor.asType(erased);
+            if (functionalInterface == Supplier.class) {
+                return (F) (Supplier<Object>) () -> invoke(generic);
+            }
+            return (F) (IntFunction<Object>) size -> invoke(generic, size);
+        }
+    }
+
+    private static Object invoke(MethodHandle constructor, Object... arguments) {
+        try {
+            return constructor.invokeWithArguments(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param size expected number of elements.
+     * @return capacity of a hash table that holds them without rehashing at the default load factor.
+     */
+    static int hashCapacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(size / 0.75));
+    }
+}
@@ -0,0 +1,33 @@
+package mz;
+
+/**
+ * Layout of the binary values summed from a file or a buffer.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public enum ElementType {
+
+    /**
+     * 32-bit int values, the sum is an Integer.
+     */
+    INT32(Integer.BYTES),
+
+    /**
+     * 64-bit long values, the sum is a Long.
+     */
+    INT64(Long.BYTES),
+
+    /**
+     * 64-bit IEEE 754 double values, the sum is a Double.
+     */
+    FLOAT64(Double.BYTES);
+
+    /**
+     * Size of one value in bytes.
+     */
+    final int bytes;
+
+    ElementType(int bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,40 @@
+package mz;
+
+/**
+ * Encoding of the numbers of a stream summed by {@link Summation#summation(java.io.InputStream, Format)}.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public enum Format {
+
+    /**
+     * Decimal text, the numbers are separated by whitespace, line breaks, commas, semicolons or vertical bars.<br>
+     * The sum has the type semantics of {@link Summation#summation(Object)}: integral numbers are read as Integer, Long or BigInteger,
+     * numbers with a decimal point or an exponent as Double.
+     */
+    TEXT(0),
+
+    /**
+     * Binary 32-bit little-endian int values, the sum is an Integer.
+     */
+    INT32_LE(Integer.BYTES),
+
+    /**
+     * Binary 64-bit little-endian long values, the sum is a Long.
+     */
+    INT64_LE(Long.BYTES),
+
+    /**
+     * Binary 64-bit little-endian IEEE 754 double values, the sum is a Double added in stream order.
+     */
+    FLOAT64_LE(Double.BYTES);
+
+    /**
+     * Size of one binary value in bytes, 0 for text.
+     */
+    final int bytes;
+
+    Format(int bytes) {
+        this.bytes = bytes;
+    }
+}
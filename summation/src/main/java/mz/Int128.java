@@ -0,0 +1,116 @@
+package mz;
+
+import java.math.BigInteger;
+
+/**
+ * Signed 128-bit integer held in two longs, used to add long values exactly.<br>
+ * The carry of the low word is detected with an unsigned comparison, so no BigInteger is created until {@link #toBigInteger()}.
+ * 2<sup>64</sup> long additions cannot overflow it.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class Int128 {
+
+    private long high;
+    private long low;
+
+    /**
+     * Adds a long value.
+     * @param value value to add.
+     */
+    void add(long value) {
+        long l = low + value;
+        high += (value >> 63) + (Long.compareUnsigned(l, low) < 0 ? 1 : 0);
+        low = l;
+    }
+
+    /**
+     * Adds a 128-bit value given by its two words.
+     * @param high signed high word of the value.
+     * @param low unsigned low word of the value.
+     */
+    void add(long high, long low) {
+        long l = this.low + low;
+        this.high += high + (Long.compareUnsigned(l, this.low) < 0 ? 1 : 0);
+        this.low = l;
+    }
+
+    /**
+     * Adds another 128-bit value.
+     * @param other value to add.
+     */
+    void add(Int128 other) {
+        add(other.high, other.low);
+    }
+
+    /**
+     * Sets the value to zero.
+     */
+    void clear() {
+        high = 0;
+        low = 0;
+    }
+
+    /**
+     * @return the low 64 bits, the value wrapped around like a long addition.
+     */
+    long longValue() {
+        return low;
+    }
+
+    /**
+     * Subtracts a long value, the borrow of the low word is detected with an unsigned comparison.
+     * @param value value to subtract.
+     */
+    void subtract(long value) {
+        long l = low - value;
+        high -= (value >> 63) + (Long.compareUnsigned(low, value) < 0 ? 1 : 0);
+        low = l;
+    }
+
+    /**
+     * @return true if the value fits in a long.
+     */
+    boolean fitsLong() {
+        return high == (low >> 63);
+    }
+
+    /**
+     * Converts the value to the nearest double, a BigInteger is only created if the value does not fit in a long.
+     * @return value as double.
+     */
+    double doubleValue() {
+        return fitsLong() ? (double) low : toBigInteger().doubleValue();
+    }
+
+    /**
+     * Materializes the value.
+     * @return value as BigInteger.
+     */
+    BigInteger toBigInteger() {
+        if (fitsLong()) {
+            return BigInteger.valueOf(low);
+        }
+        BigInteger unsignedLow = BigInteger.valueOf(low >>> 1).shiftLeft(1).add(BigInteger.valueOf(low & 1));
+        return BigInteger.valueOf(high).shiftLeft(64).add(unsignedLow);
+    }
+
+    /**
+     * Sums a long array exactly.
+     * @param values array whose sum of values you want.
+     * @return exact sum.
+     */
+    static Int128 sum(long[] values) {
+        long h = 0;
+        long l = 0;
+        for (long value : values) {
+            long r = l + value;
+            h += (value >> 63) + (Long.compareUnsigned(r, l) < 0 ? 1 : 0);
+            l = r;
+        }
+        Int128 sum = new Int128();
+        sum.high = h;
+        sum.low = l;
+        return sum;
+    }
+}
@@ -0,0 +1,240 @@
+package mz;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Table of int keys and 64-bit values, the storage of {@link IntToLongMap} and {@link IntToDoubleMap}.<br>
+ * While the keys are exactly 0..size-1 the table is dense, a plain {@code long[]} indexed by the key.
+ * The first other key converts it to open addressing with linear probing: parallel {@code int[]} keys and {@code long[]} values,
+ * at most three quarters full, so an entry takes 12 to 24 bytes and no object.
+ * Key 0 marks a free slot, the value of key 0 is kept beside the table.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class IntKeyTable {
+
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * Keys of the hashed table, null while the table is dense.
+     */
+    private int[] keys;
+    private long[] values;
+    private int size;
+    private boolean hasZero;
+    private long zeroValue;
+
+    /**
+     * Creates a hashed table.
+     * @param expectedSize number of keys it holds without resizing.
+     */
+    IntKeyTable(int expectedSize) {
+        int capacity = capacity(expectedSize);
+        keys = new int[capacity];
+        values = new long[capacity];
+    }
+
+    /**
+     * Creates a dense table of the keys 0..size-1.
+     * @param values value of every key, the array is used without copying.
+     * @param size number of keys.
+     */
+    IntKeyTable(long[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(int key) {
+        return slot(key) != -1;
+    }
+
+    /**
+     * @param key key to look up.
+     * @param defaultValue value of a missing key.
+     * @return value of the key.
+     */
+    long get(int key, long defaultValue) {
+        int slot = slot(key);
+        return slot == -1 ? defaultValue : slot == -2 ? zeroValue : values[slot];
+    }
+
+    /**
+     * Stores the value of a key.
+     * @param key key of the value.
+     * @param value new value.
+     * @return true if the key was new.
+     */
+    boolean put(int key, long value) {
+        if (keys == null) {
+            if (key >= 0 && key < size) {
+                values[key] = value;
+                return false;
+            } else if (key == size) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, Math.max(MIN_CAPACITY, size + (size >> 1)));
+                }
+                values[size++] = value;
+                return true;
+            }
+            inflate();
+        }
+        if (key == 0) {
+            zeroValue = value;
+            if (!hasZero) {
+                hasZero = true;
+                size++;
+                return true;
+            }
+            return false;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (keys.length >> 2) * 3) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Cursor over the entries: dense tables in key order, hashed tables key 0 first and then in table order.
+     */
+    final class Cursor {
+
+        /**
+         * Position of the next entry, -1 for key 0 of a hashed table.
+         */
+        private int next;
+        private int key;
+        private long value;
+
+        Cursor() {
+            next = keys != null && hasZero ? -1 : 0;
+            skip();
+        }
+
+        boolean hasNext() {
+            return next == -1 || next < (keys == null ? size : keys.length);
+        }
+
+        /**
+         * Moves to the next entry, then {@link #key()} and {@link #value()} give it.
+         */
+        void advance() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next == -1) {
+                key = 0;
+                value = zeroValue;
+            } else {
+                key = keys == null ? next : keys[next];
+                value = values[next];
+            }
+            next++;
+            skip();
+        }
+
+        int key() {
+            return key;
+        }
+
+        long value() {
+            return value;
+        }
+
+        private void skip() {
+            if (keys != null && next >= 0) {
+                while (next < keys.length && keys[next] == 0) {
+                    next++;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param key key to look up.
+     * @return slot of the key, -2 for key 0 of a hashed table, -1 if the key is missing.
+     */
+    private int slot(int key) {
+        if (keys == null) {
+            return key >= 0 && key < size ? key : -1;
+        } else if (key == 0) {
+            return hasZero ? -2 : -1;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Converts the dense table to a hashed one.
+     */
+    private void inflate() {
+        long[] dense = values;
+        int denseSize = size;
+        keys = new int[capacity(denseSize + 1)];
+        values = new long[keys.length];
+        size = 0;
+        for (int key = 0; key < denseSize; key++) {
+            put(key, dense[key]);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[capacity];
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * @param expectedSize number of keys.
+     * @return power of two capacity that holds them at most three quarters full.
+     */
+    private static int capacity(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75) + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Spreads the bits of a key, consecutive keys land far from each other.
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
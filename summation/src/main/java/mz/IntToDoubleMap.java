@@ -0,0 +1,166 @@
+package mz;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact map of int keys to double values, the primitive result of {@link Summation#summationDoubleMap(Object)}.<br>
+ * Keys and values are stored in primitive arrays, the values as their raw long bits, no Integer, Double or entry object is created per key.
+ * Keys 0..n-1 are kept in a dense array, any other key set in an open addressing table.
+ * {@link #asMap()} gives a {@link Map} view for callers that need one.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class IntToDoubleMap {
+
+    /**
+     * Receives the entries of {@link #forEach(EntryConsumer)}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(int key, double value);
+    }
+
+    private static final long ZERO = Double.doubleToRawLongBits(0.0);
+
+    private final IntKeyTable table;
+
+    /**
+     * Creates an empty map.
+     * @param expectedSize number of keys it holds without resizing.
+     */
+    public IntToDoubleMap(int expectedSize) {
+        this(new IntKeyTable(expectedSize));
+    }
+
+    private IntToDoubleMap(IntKeyTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Creates a dense map of the keys 0..size-1.
+     * @param bits raw long bits of the value of every key, the array is used without copying.
+     * @param size number of keys.
+     * @return map over the array.
+     */
+    static IntToDoubleMap dense(long[] bits, int size) {
+        return new IntToDoubleMap(new IntKeyTable(bits, size));
+    }
+
+    /**
+     * @return number of keys.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * @param key key to look up.
+     * @return true if the map holds the key.
+     */
+    public boolean containsKey(int key) {
+        return table.containsKey(key);
+    }
+
+    /**
+     * @param key key to look up.
+     * @return value of the key, zero if the key is missing.
+     */
+    public double get(int key) {
+        return Double.longBitsToDouble(table.get(key, ZERO));
+    }
+
+    /**
+     * @param key key to look up.
+     * @param defaultValue value of a missing key.
+     * @return value of the key, the default value if the key is missing.
+     */
+    public double getOrDefault(int key, double defaultValue) {
+        return Double.longBitsToDouble(table.get(key, Double.doubleToRawLongBits(defaultValue)));
+    }
+
+    /**
+     * Stores the value of a key, replacing the previous one.
+     * @param key key of the value.
+     * @param value new value.
+     */
+    public void put(int key, double value) {
+        table.put(key, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Passes every entry to the consumer without boxing.
+     * @param action receives the key and the value of the entries.
+     */
+    public void forEach(EntryConsumer action) {
+        for (IntKeyTable.Cursor cursor = table.new Cursor(); cursor.hasNext(); ) {
+            cursor.advance();
+            action.accept(cursor.key(), Double.longBitsToDouble(cursor.value()));
+        }
+    }
+
+    /**
+     * Live {@link Map} view of the map, keys and values are boxed on access.<br>
+     * Put writes through to this map, keys cannot be removed.
+     * @return the view.
+     */
+    public Map<Integer, Double> asMap() {
+        return new View();
+    }
+
+    private final class View extends AbstractMap<Integer, Double> {
+
+        @Override
+        public int size() {
+            return table.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && table.containsKey((Integer) key);
+        }
+
+        @Override
+        public Double get(Object key) {
+            return containsKey(key) ? IntToDoubleMap.this.get((Integer) key) : null;
+        }
+
+        @Override
+        public Double put(Integer key, Double value) {
+            Double previous = get(key);
+            IntToDoubleMap.this.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<Integer, Double>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return table.size();
+                }
+
+                @Override
+                public Iterator<Entry<Integer, Double>> iterator() {
+                    IntKeyTable.Cursor cursor = table.new Cursor();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return cursor.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Integer, Double> next() {
+                            cursor.advance();
+                            return new SimpleImmutableEntry<>(cursor.key(), Double.longBitsToDouble(cursor.value()));
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
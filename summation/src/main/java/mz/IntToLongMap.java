@@ -0,0 +1,164 @@
+package mz;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact map of int keys to long values, the primitive result of {@link Summation#summationLongMap(Object)}.<br>
+ * Keys and values are stored in primitive arrays, no Integer, Long or entry object is created per key.
+ * Keys 0..n-1 are kept in a dense {@code long[]}, any other key set in an open addressing table.
+ * {@link #asMap()} gives a {@link Map} view for callers that need one.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class IntToLongMap {
+
+    /**
+     * Receives the entries of {@link #forEach(EntryConsumer)}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(int key, long value);
+    }
+
+    private final IntKeyTable table;
+
+    /**
+     * Creates an empty map.
+     * @param expectedSize number of keys it holds without resizing.
+     */
+    public IntToLongMap(int expectedSize) {
+        this(new IntKeyTable(expectedSize));
+    }
+
+    private IntToLongMap(IntKeyTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Creates a dense map of the keys 0..size-1.
+     * @param values value of every key, the array is used without copying.
+     * @param size number of keys.
+     * @return map over the array.
+     */
+    static IntToLongMap dense(long[] values, int size) {
+        return new IntToLongMap(new IntKeyTable(values, size));
+    }
+
+    /**
+     * @return number of keys.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * @param key key to look up.
+     * @return true if the map holds the key.
+     */
+    public boolean containsKey(int key) {
+        return table.containsKey(key);
+    }
+
+    /**
+     * @param key key to look up.
+     * @return value of the key, zero if the key is missing.
+     */
+    public long get(int key) {
+        return table.get(key, 0);
+    }
+
+    /**
+     * @param key key to look up.
+     * @param defaultValue value of a missing key.
+     * @return value of the key, the default value if the key is missing.
+     */
+    public long getOrDefault(int key, long defaultValue) {
+        return table.get(key, defaultValue);
+    }
+
+    /**
+     * Stores the value of a key, replacing the previous one.
+     * @param key key of the value.
+     * @param value new value.
+     */
+    public void put(int key, long value) {
+        table.put(key, value);
+    }
+
+    /**
+     * Passes every entry to the consumer without boxing.
+     * @param action receives the key and the value of the entries.
+     */
+    public void forEach(EntryConsumer action) {
+        for (IntKeyTable.Cursor cursor = table.new Cursor(); cursor.hasNext(); ) {
+            cursor.advance();
+            action.accept(cursor.key(), cursor.value());
+        }
+    }
+
+    /**
+     * Live {@link Map} view of the map, keys and values are boxed on access.<br>
+     * Put writes through to this map, keys cannot be removed.
+     * @return the view.
+     */
+    public Map<Integer, Long> asMap() {
+        return new View();
+    }
+
+    private final class View extends AbstractMap<Integer, Long> {
+
+        @Override
+        public int size() {
+            return table.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && table.containsKey((Integer) key);
+        }
+
+        @Override
+        public Long get(Object key) {
+            return containsKey(key) ? table.get((Integer) key, 0) : null;
+        }
+
+        @Override
+        public Long put(Integer key, Long value) {
+            Long previous = get(key);
+            table.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<Integer, Long>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return table.size();
+                }
+
+                @Override
+                public Iterator<Entry<Integer, Long>> iterator() {
+                    IntKeyTable.Cursor cursor = table.new Cursor();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return cursor.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Integer, Long> next() {
+                            cursor.advance();
+                            return new SimpleImmutableEntry<>(cursor.key(), cursor.value());
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package mz;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds, the recorder of {@link SummationMetrics}.<br>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so a percentile is within 12.5% of the recorded value,
+ * latencies from 0 ns to {@value #MAX_EXPONENT} powers of two (about 18 minutes) take 312 counters.
+ * The counters are striped by thread in up to 16 stripes, so threads recording at the same time increment different cache lines.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Exponent of the largest bucket, longer latencies are counted in it.
+     */
+    private static final int MAX_EXPONENT = 40;
+
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    /**
+     * Counters of the stripes one after the other, a stripe starts a padding after the previous one.
+     */
+    private final AtomicLongArray counts;
+    private final int stripeMask;
+    private final int stride;
+
+    LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.min(16, Math.max(1, Runtime.getRuntime().availableProcessors())) * 2 - 1);
+        stripeMask = stripes - 1;
+        stride = BUCKETS + 16;
+        counts = new AtomicLongArray(stripes * stride);
+    }
+
+    /**
+     * Counts a latency in the stripe of the current thread.
+     * @param nanos latency in nanoseconds, a negative value is counted as zero.
+     */
+    void record(long nanos) {
+        int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        counts.getAndIncrement(stripe * stride + bucket(Math.max(0, nanos)));
+    }
+
+    /**
+     * Adds the stripes together.
+     * @return count of every bucket.
+     */
+    long[] snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] += counts.get(stripe * stride + i);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Empties every bucket, latencies recorded during the reset may be kept.
+     */
+    void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * @param buckets counts returned by {@link #snapshot()}.
+     * @param percentile fraction of the latencies, between 0 and 1.
+     * @return upper bound of the bucket that holds the percentile, 0 if there is no latency.
+     */
+    static long percentile(long[] buckets, double percentile) {
+        long total = count(buckets);
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(buckets.length - 1);
+    }
+
+    /**
+     * @param buckets counts returned by {@link #snapshot()}.
+     * @return number of latencies.
+     */
+    static long count(long[] buckets) {
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        return total;
+    }
+
+    /**
+     * @param buckets counts returned by {@link #snapshot()}.
+     * @return upper bound of the highest bucket with a latency, 0 if there is no latency.
+     */
+    static long max(long[] buckets) {
+        for (int i = buckets.length - 1; i >= 0; i--) {
+            if (buckets[i] != 0) {
+                return upperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param nanos non-negative latency.
+     * @return index of its bucket, values under {@value #SUB_BUCKETS} have their own bucket.
+     */
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(nanos));
+        int sub = exponent == MAX_EXPONENT && nanos >= 1L << (MAX_EXPONENT + 1) ? SUB_BUCKETS - 1 : (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @param bucket index of a bucket.
+     * @return largest latency of the bucket.
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (1L << exponent) + ((sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
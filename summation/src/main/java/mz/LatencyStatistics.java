@@ -0,0 +1,88 @@
+package mz;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Latency percentiles of a {@link Summation} entry point, an attribute of {@link SummationMetricsMXBean}.<br>
+ * The values are nanoseconds, each is the upper bound of a histogram bucket, within 12.5% of the recorded latency.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class LatencyStatistics {
+
+    private final long count;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    /**
+     * @param count number of recorded calls.
+     * @param p50 median latency.
+     * @param p99 99th percentile latency.
+     * @param p999 99.9th percentile latency.
+     * @param max largest latency.
+     */
+    public LatencyStatistics(long count, long p50, long p99, long p999, long max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Reads the statistics of a JMX client.
+     * @param data composite value of the attribute.
+     * @return the statistics.
+     */
+    public static LatencyStatistics from(CompositeData data) {
+        return new LatencyStatistics((Long) data.get("count"), (Long) data.get("p50"), (Long) data.get("p99"), (Long) data.get("p999"), (Long) data.get("max"));
+    }
+
+    /**
+     * Takes the statistics of a histogram.
+     * @param histogram histogram of an entry point.
+     * @return the statistics.
+     */
+    static LatencyStatistics of(LatencyHistogram histogram) {
+        long[] buckets = histogram.snapshot();
+        return new LatencyStatistics(LatencyHistogram.count(buckets), LatencyHistogram.percentile(buckets, 0.5), LatencyHistogram.percentile(buckets, 0.99),
+                LatencyHistogram.percentile(buckets, 0.999), LatencyHistogram.max(buckets));
+    }
+
+    /**
+     * @return number of recorded calls.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return median latency in nanoseconds.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * @return 99th percentile latency in nanoseconds.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * @return 99.9th percentile latency in nanoseconds.
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * @return largest latency in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,263 @@
+package mz;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Sum of values of mixed types kept in separate channels, so values can be added and removed in any order.<br>
+ * Integral values go to an exact 128-bit sum, finite float and double values to a Neumaier compensated double sum,
+ * BigInteger values wider than a long and BigDecimal values to exact big sums.
+ * Infinite and NaN values are only counted, so removing them restores a finite sum,
+ * and a finite value that would overflow the double sum is kept exactly as BigDecimal until it is removed.
+ * {@link #result(NumberType)} converts the channels to the widest type, integral sums are narrowed like the boxed addition,
+ * a float or double sum adds the whole 128-bit integral sum.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class MixedSum {
+
+    private final Int128 integral = new Int128();
+    private double floating;
+    private double compensation;
+    private BigInteger wide;
+    private BigDecimal decimal;
+
+    /**
+     * Finite double values that would have overflowed the compensated sum, null while there is none.
+     */
+    private BigDecimal overflow;
+
+    private int positiveInfinities;
+    private int negativeInfinities;
+    private int nans;
+
+    /**
+     * Adds an integral value.
+     * @param value value to add.
+     */
+    void add(long value) {
+        integral.add(value);
+    }
+
+    /**
+     * Subtracts an integral value exactly.
+     * @param value value to subtract.
+     */
+    void subtract(long value) {
+        integral.subtract(value);
+    }
+
+    /**
+     * Adds a 128-bit integral value given by its two words.
+     * @param high signed high word of the value.
+     * @param low unsigned low word of the value.
+     */
+    void add(long high, long low) {
+        integral.add(high, low);
+    }
+
+    /**
+     * Adds a floating point value with Neumaier compensation, an infinite or NaN value is counted.
+     * @param value value to add.
+     */
+    void add(double value) {
+        if (Double.isFinite(value)) {
+            addFinite(value);
+        } else {
+            count(value, 1);
+        }
+    }
+
+    /**
+     * Removes a floating point value added earlier, the error stays within the bound of the compensated sum.
+     * @param value value to remove.
+     */
+    void subtract(double value) {
+        if (Double.isFinite(value)) {
+            addFinite(-value);
+        } else {
+            count(value, -1);
+        }
+    }
+
+    /**
+     * @param value finite value to add to the compensated sum, or to the exact overflow sum if the compensated sum would overflow.
+     */
+    private void addFinite(double value) {
+        double t = floating + value;
+        if (!Double.isFinite(t)) {
+            BigDecimal exact = new BigDecimal(value);
+            overflow = overflow == null ? exact : overflow.add(exact);
+            return;
+        }
+        compensation += Accumulator.Compensated.correction(floating, value, t);
+        floating = t;
+    }
+
+    /**
+     * @param value infinite or NaN value.
+     * @param delta 1 to add it, -1 to remove it.
+     */
+    private void count(double value, int delta) {
+        if (Double.isNaN(value)) {
+            nans += delta;
+        } else if (value > 0) {
+            positiveInfinities += delta;
+        } else {
+            negativeInfinities += delta;
+        }
+    }
+
+    /**
+     * Adds a BigInteger or a BigDecimal value exactly, any other value is added as a long.
+     * @param value value to add.
+     */
+    void addBig(Number value) {
+        if (value instanceof BigDecimal) {
+            decimal = decimal == null ? (BigDecimal) value : decimal.add((BigDecimal) value);
+        } else if (value instanceof BigInteger && ((BigInteger) value).bitLength() >= Long.SIZE) {
+            wide = wide == null ? (BigInteger) value : wide.add((BigInteger) value);
+        } else {
+            add(value.longValue());
+        }
+    }
+
+    /**
+     * Subtracts a BigInteger or a BigDecimal value exactly, any other value is subtracted as a long.
+     * @param value value to subtract.
+     */
+    void subtractBig(Number value) {
+        if (value instanceof BigDecimal) {
+            addBig(((BigDecimal) value).negate());
+        } else if (value instanceof BigInteger && ((BigInteger) value).bitLength() >= Long.SIZE) {
+            addBig(((BigInteger) value).negate());
+        } else {
+            subtract(value.longValue());
+        }
+    }
+
+    /**
+     * Adds the channels of another sum.
+     * @param other sum to add, it is not changed.
+     */
+    void merge(MixedSum other) {
+        integral.add(other.integral);
+        add(other.floating);
+        add(other.compensation);
+        if (other.overflow != null) {
+            overflow = overflow == null ? other.overflow : overflow.add(other.overflow);
+        }
+        positiveInfinities += other.positiveInfinities;
+        negativeInfinities += other.negativeInfinities;
+        nans += other.nans;
+        if (other.wide != null) {
+            addBig(other.wide);
+        }
+        if (other.decimal != null) {
+            addBig(other.decimal);
+        }
+    }
+
+    /**
+     * Empties every channel.
+     */
+    void reset() {
+        integral.clear();
+        floating = 0;
+        compensation = 0;
+        wide = null;
+        decimal = null;
+        overflow = null;
+        positiveInfinities = 0;
+        negativeInfinities = 0;
+        nans = 0;
+    }
+
+    /**
+     * @return copy of the channels.
+     */
+    MixedSum copy() {
+        MixedSum copy = new MixedSum();
+        copy.integral.add(integral);
+        copy.floating = floating;
+        copy.compensation = compensation;
+        copy.wide = wide;
+        copy.decimal = decimal;
+        copy.overflow = overflow;
+        copy.positiveInfinities = positiveInfinities;
+        copy.negativeInfinities = negativeInfinities;
+        copy.nans = nans;
+        return copy;
+    }
+
+    /**
+     * Converts the channels to the widest type.<br>
+     * Every channel is read once and nothing is changed, so an optimistic reader can call it while a writer updates the sum
+     * and discard the result if the read was not valid.
+     * @param type widest type added, null if there was no value.
+     * @return the sum in the widest type, null if the type is null.
+     */
+    Number result(NumberType type) {
+        if (type == null) {
+            return null;
+        }
+        BigInteger wide = this.wide;
+        BigDecimal decimal = this.decimal;
+        BigDecimal overflow = this.overflow;
+        long low = wide == null ? integral.longValue() : integral.longValue() + wide.longValue();
+        double floatingSum = floatingValue(overflow);
+        switch (type) {
+            case BYTE:
+                return (byte) low;
+            case SHORT:
+                return (short) low;
+            case INTEGER:
+                return (int) low;
+            case LONG:
+                return low;
+            case FLOAT:
+                return (float) (floatingSum + integralValue(wide));
+            case DOUBLE:
+                return floatingSum + integralValue(wide);
+            case BIG_INTEGER:
+                return wide == null ? integral.toBigInteger() : integral.toBigInteger().add(wide);
+            default:
+                BigDecimal sum = new BigDecimal(wide == null ? integral.toBigInteger() : integral.toBigInteger().add(wide));
+                if (decimal != null) {
+                    sum = sum.add(decimal);
+                }
+                if (overflow != null && Double.isFinite(floatingSum)) {
+                    sum = sum.add(overflow);
+                    floatingSum = floating + compensation;
+                }
+                return floatingSum == 0 ? sum : sum.add(NumberType.toBigDecimal(floatingSum));
+        }
+    }
+
+    /**
+     * @param overflow overflow channel read by the caller.
+     * @return the floating point channels as the nearest double, NaN if NaN or both infinities were added, otherwise an added infinity.
+     */
+    private double floatingValue(BigDecimal overflow) {
+        int positive = positiveInfinities;
+        int negative = negativeInfinities;
+        if (nans > 0 || positive > 0 && negative > 0) {
+            return Double.NaN;
+        } else if (positive > 0) {
+            return Double.POSITIVE_INFINITY;
+        } else if (negative > 0) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (overflow == null) {
+            return floating + compensation;
+        }
+        return new BigDecimal(floating).add(new BigDecimal(compensation)).add(overflow).doubleValue();
+    }
+
+    /**
+     * @param wide BigInteger channel read by the caller.
+     * @return the integral channels as the nearest double.
+     */
+    private double integralValue(BigInteger wide) {
+        return wide == null ? integral.doubleValue() : integral.toBigInteger().add(wide).doubleValue();
+    }
+}
@@ -0,0 +1,116 @@
+package mz;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The Number types known by the summation, ordered from the narrowest to the widest.<br>
+ * The type of a value is resolved once, the accumulators work with the resolved type afterwards.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+enum NumberType {
+
+    BYTE(Byte.class),
+    SHORT(Short.class),
+    INTEGER(Integer.class),
+    LONG(Long.class),
+    FLOAT(Float.class),
+    DOUBLE(Double.class),
+    BIG_INTEGER(BigInteger.class),
+    BIG_DECIMAL(BigDecimal.class);
+
+    /**
+     * The boxed class of the type, the accumulators compare the class of the elements with it.
+     */
+    final Class<? extends Number> numberClass;
+
+    NumberType(Class<? extends Number> numberClass) {
+        this.numberClass = numberClass;
+    }
+
+    /**
+     * Decides the type of the value.<br>
+     * Atomic and adder integer types count as {@code INTEGER} or {@code LONG}, any other unknown Number is handled as {@code DOUBLE}.
+     * @param value value whose type is needed, cannot be null.
+     * @return type of the value.
+     */
+    static NumberType of(Number value) {
+        Class<?> c = value.getClass();
+        if (c == Integer.class) {
+            return INTEGER;
+        } else if (c == Long.class) {
+            return LONG;
+        } else if (c == Double.class) {
+            return DOUBLE;
+        } else if (c == Float.class) {
+            return FLOAT;
+        } else if (c == Short.class) {
+            return SHORT;
+        } else if (c == Byte.class) {
+            return BYTE;
+        } else if (value instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        } else if (value instanceof BigInteger) {
+            return BIG_INTEGER;
+        } else if (value instanceof AtomicInteger) {
+            return INTEGER;
+        } else if (value instanceof AtomicLong || value instanceof LongAdder || value instanceof LongAccumulator) {
+            return LONG;
+        } else {
+            return DOUBLE;
+        }
+    }
+
+    /**
+     * Promotes two types to the type that can hold both of them.<br>
+     * A floating point type and BigInteger are promoted to BigDecimal.
+     * @param other type of the other value.
+     * @return widest type of the two.
+     */
+    NumberType widen(NumberType other) {
+        if (this == other) {
+            return this;
+        }
+        NumberType wider = ordinal() > other.ordinal() ? this : other;
+        NumberType narrower = wider == this ? other : this;
+        if (wider == BIG_INTEGER && (narrower == FLOAT || narrower == DOUBLE)) {
+            return BIG_DECIMAL;
+        }
+        return wider;
+    }
+
+    /**
+     * Converts a value without loss to BigInteger, the value must be integral.
+     * @param value value to convert.
+     * @return value as BigInteger.
+     */
+    static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        } else {
+            return BigInteger.valueOf(value.longValue());
+        }
+    }
+
+    /**
+     * Converts a value to BigDecimal, floating point values keep their decimal representation.
+     * @param value value to convert.
+     * @return value as BigDecimal.
+     */
+    static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(value.doubleValue());
+        } else {
+            return BigDecimal.valueOf(value.longValue());
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package mz;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Fenwick tree (binary indexed tree) over a sequence of values for repeated range sums while single values change.<br>
+ * It is built in O(n), {@link #set(int, Number)}, {@link #add(int, Number)} and {@link #sum(int, int)} cost O(log n).
+ * The values are kept on a primitive tree: integral values on a {@link OfLong}, float and double values on a {@link OfDouble},
+ * only BigInteger and BigDecimal values need a BigDecimal tree.
+ * The sum has the type of the widest value ever stored, integral sums are narrowed to it like the boxed addition,
+ * a wider value converts the tree once. Null values count as zero.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class PrefixSumIndex<V extends Number> {
+
+    private final int size;
+
+    /**
+     * Widest type stored, null while every value is null.
+     */
+    private NumberType type;
+
+    private OfLong longs;
+    private OfDouble doubles;
+    private OfBigDecimal decimals;
+
+    private PrefixSumIndex(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Builds an index over the values of an array in O(n).
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values values of the sequence, null counts as zero.
+     * @return index with the same size as the array.
+     */
+    public static <V extends Number> PrefixSumIndex<V> of(V[] values) {
+        PrefixSumIndex<V> index = new PrefixSumIndex<>(values.length);
+        for (V value : values) {
+            if (value != null) {
+                NumberType valueType = NumberType.of(value);
+                index.type = index.type == null ? valueType : index.type.widen(valueType);
+            }
+        }
+        index.build(values);
+        return index;
+    }
+
+    /**
+     * Builds an index over the values of a Collection in O(n), in the order of its iterator.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values values of the sequence, null counts as zero.
+     * @return index with the same size as the Collection.
+     */
+    public static <V extends Number> PrefixSumIndex<V> of(Collection<? extends V> values) {
+        return of((V[]) values.toArray(new Number[0]));
+    }
+
+    /**
+     * Builds a primitive long index in O(n).
+     * @param values values of the sequence.
+     * @return index with the same size as the array.
+     */
+    public static OfLong ofLong(long[] values) {
+        return new OfLong(values);
+    }
+
+    /**
+     * Builds a primitive double index in O(n).
+     * @param values values of the sequence.
+     * @return index with the same size as the array.
+     */
+    public static OfDouble ofDouble(double[] values) {
+        return new OfDouble(values);
+    }
+
+    /**
+     * @return number of values in the sequence.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads a stored value, not a difference of prefix sums, so a small value next to large ones keeps its digits.
+     * @param index index of the value.
+     * @return value at the index in the type of the index, null if no value was stored yet.
+     * @throws IndexOutOfBoundsException if the index is out of the sequence.
+     */
+    public V get(int index) {
+        Objects.checkIndex(index, size);
+        if (type == null) {
+            return null;
+        } else if (longs != null) {
+            return narrow(longs.get(index));
+        } else if (doubles != null) {
+            return narrow(doubles.get(index));
+        }
+        return narrow(decimals.get(index));
+    }
+
+    /**
+     * Sum of the values before an index.
+     * @param to last index, exclusive.
+     * @return sum of the values in [0, to) with the widest type stored, null if no value was stored yet.
+     */
+    public V prefixSum(int to) {
+        return sum(0, to);
+    }
+
+    /**
+     * Sum of the values of an index range in O(log n).
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the values in [from, to) with the widest type stored, null if no value was stored yet.
+     * @throws IndexOutOfBoundsException if the range is out of the sequence.
+     */
+    public V sum(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (type == null) {
+            return null;
+        } else if (longs != null) {
+            return narrow(longs.sum(from, to));
+        } else if (doubles != null) {
+            return narrow(doubles.sum(from, to));
+        }
+        return narrow(decimals.sum(from, to));
+    }
+
+    /**
+     * @param value value or sum of the long tree.
+     * @return the value narrowed to the type of the index like the boxed addition.
+     */
+    private V narrow(long value) {
+        if (type == NumberType.BYTE) {
+            return (V) (Byte) (byte) value;
+        } else if (type == NumberType.SHORT) {
+            return (V) (Short) (short) value;
+        } else if (type == NumberType.INTEGER) {
+            return (V) (Integer) (int) value;
+        }
+        return (V) (Long) value;
+    }
+
+    /**
+     * @param value value or sum of the double tree.
+     * @return the value in the type of the index.
+     */
+    private V narrow(double value) {
+        return type == NumberType.FLOAT ? (V) (Float) (float) value : (V) (Double) value;
+    }
+
+    /**
+     * @param value value or sum of the BigDecimal tree.
+     * @return the value in the type of the index.
+     */
+    private V narrow(BigDecimal value) {
+        return type == NumberType.BIG_INTEGER ? (V) value.toBigInteger() : (V) value;
+    }
+
+    /**
+     * Replaces a value in O(log n), a wider value converts the tree first.
+     * @param index index of the value.
+     * @param value new value, null counts as zero.
+     * @throws IndexOutOfBoundsException if the index is out of the sequence.
+     */
+    public void set(int index, V value) {
+        Objects.checkIndex(index, size);
+        if (value == null) {
+            if (type != null) {
+                update(index, null, true);
+            }
+            return;
+        }
+        promote(NumberType.of(value));
+        update(index, value, true);
+    }
+
+    /**
+     * Adds a value to the value at an index in O(log n), a wider value converts the tree first.
+     * @param index index of the value.
+     * @param delta value to add, null is skipped.
+     * @throws IndexOutOfBoundsException if the index is out of the sequence.
+     */
+    public void add(int index, V delta) {
+        Objects.checkIndex(index, size);
+        if (delta != null) {
+            promote(NumberType.of(delta));
+            update(index, delta, false);
+        }
+    }
+
+    /**
+     * Sets or adds a value on the backing tree.
+     * @param index index of the value.
+     * @param value value, null counts as zero.
+     * @param replace true to replace the value, false to add it.
+     */
+    private void update(int index, Number value, boolean replace) {
+        if (longs != null) {
+            long v = value == null ? 0 : value.longValue();
+            if (replace) {
+                longs.set(index, v);
+            } else {
+                longs.add(index, v);
+            }
+        } else if (doubles != null) {
+            double v = value == null ? 0 : value.doubleValue();
+            if (replace) {
+                doubles.set(index, v);
+            } else {
+                doubles.add(index, v);
+            }
+        } else {
+            BigDecimal v = value == null ? BigDecimal.ZERO : NumberType.toBigDecimal(value);
+            if (replace) {
+                decimals.set(index, v);
+            } else {
+                decimals.add(index, v);
+            }
+        }
+    }
+
+    /**
+     * Widens the type and converts the tree if the new type needs another backing.
+     * @param valueType type of a new value.
+     */
+    private void promote(NumberType valueType) {
+        NumberType wider = type == null ? valueType : type.widen(valueType);
+        if (wider == type) {
+            return;
+        }
+        Number[] values = new Number[size];
+        if (type != null) {
+            for (int i = 0; i < size; i++) {
+                values[i] = longs != null ? (Number) longs.get(i) : doubles != null ? (Number) doubles.get(i) : decimals.get(i);
+            }
+        }
+        type = wider;
+        build(values);
+    }
+
+    /**
+     * Builds the backing tree of the type.
+     * @param values values of the sequence, null counts as zero.
+     */
+    private void build(Number[] values) {
+        longs = null;
+        doubles = null;
+        decimals = null;
+        if (type == null || type.compareTo(NumberType.LONG) <= 0) {
+            long[] primitive = new long[size];
+            for (int i = 0; i < size; i++) {
+                primitive[i] = values[i] == null ? 0 : values[i].longValue();
+            }
+            longs = new OfLong(primitive);
+        } else if (type == NumberType.FLOAT || type == NumberType.DOUBLE) {
+            double[] primitive = new double[size];
+            for (int i = 0; i < size; i++) {
+                primitive[i] = values[i] == null ? 0 : values[i].doubleValue();
+            }
+            doubles = new OfDouble(primitive);
+        } else {
+            BigDecimal[] big = new BigDecimal[size];
+            for (int i = 0; i < size; i++) {
+                big[i] = values[i] == null ? BigDecimal.ZERO : NumberType.toBigDecimal(values[i]);
+            }
+            decimals = new OfBigDecimal(big);
+        }
+    }
+
+    /**
+     * Fenwick tree of long values, sums wrap around on overflow like the long addition.
+     */
+    public static final class OfLong {
+
+        /**
+         * Tree, 1-based.
+         */
+        private final long[] tree;
+        private final long[] values;
+
+        private OfLong(long[] values) {
+            this.values = values.clone();
+            this.tree = new long[values.length + 1];
+            System.arraycopy(values, 0, tree, 1, values.length);
+            for (int i = 1; i < tree.length; i++) {
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        /**
+         * @return number of values.
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * @param index index of the value.
+         * @return value at the index.
+         */
+        public long get(int index) {
+            return values[index];
+        }
+
+        /**
+         * @param from first index, inclusive.
+         * @param to last index, exclusive.
+         * @return sum of the values in [from, to).
+         * @throws IndexOutOfBoundsException if the range is out of the sequence.
+         */
+        public long sum(int from, int to) {
+            Objects.checkFromToIndex(from, to, values.length);
+            return prefix(to) - prefix(from);
+        }
+
+        /**
+         * @param to last index, exclusive.
+         * @return sum of the values in [0, to).
+         */
+        public long prefixSum(int to) {
+            return sum(0, to);
+        }
+
+        /**
+         * @param index index of the value.
+         * @param value new value.
+         */
+        public void set(int index, long value) {
+            add(index, value - values[index]);
+        }
+
+        /**
+         * @param index index of the value.
+         * @param delta value to add.
+         */
+        public void add(int index, long delta) {
+            values[index] += delta;
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private long prefix(int to) {
+            long sum = 0;
+            for (int i = to; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Fenwick tree of double values.<br>
+     * A range sum is the difference of two prefix sums, so its rounding error is relative to the prefix sums, not to the range.
+     */
+    public static final class OfDouble {
+
+        /**
+         * Tree, 1-based.
+         */
+        private final double[] tree;
+        private final double[] values;
+
+        private OfDouble(double[] values) {
+            this.values = values.clone();
+            this.tree = new double[values.length + 1];
+            System.arraycopy(values, 0, tree, 1, values.length);
+            for (int i = 1; i < tree.length; i++) {
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        /**
+         * @return number of values.
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * @param index index of the value.
+         * @return value at the index.
+         */
+        public double get(int index) {
+            return values[index];
+        }
+
+        /**
+         * @param from first index, inclusive.
+         * @param to last index, exclusive.
+         * @return sum of the values in [from, to).
+         * @throws IndexOutOfBoundsException if the range is out of the sequence.
+         */
+        public double sum(int from, int to) {
+            Objects.checkFromToIndex(from, to, values.length);
+            return from == to ? 0 : prefix(to) - prefix(from);
+        }
+
+        /**
+         * @param to last index, exclusive.
+         * @return sum of the values in [0, to).
+         */
+        public double prefixSum(int to) {
+            return sum(0, to);
+        }
+
+        /**
+         * @param index index of the value.
+         * @param value new value.
+         */
+        public void set(int index, double value) {
+            double delta = value - values[index];
+            values[index] = value;
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * @param index index of the value.
+         * @param delta value to add.
+         */
+        public void add(int index, double delta) {
+            set(index, values[index] + delta);
+        }
+
+        private double prefix(int to) {
+            double sum = 0;
+            for (int i = to; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Fenwick tree of exact BigDecimal values, used when BigInteger or BigDecimal values are stored.
+     */
+    static final class OfBigDecimal {
+
+        private final BigDecimal[] tree;
+        private final BigDecimal[] values;
+
+        OfBigDecimal(BigDecimal[] values) {
+            this.values = values.clone();
+            this.tree = new BigDecimal[values.length + 1];
+            tree[0] = BigDecimal.ZERO;
+            System.arraycopy(values, 0, tree, 1, values.length);
+            for (int i = 1; i < tree.length; i++) {
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] = tree[parent].add(tree[i]);
+                }
+            }
+        }
+
+        BigDecimal get(int index) {
+            return values[index];
+        }
+
+        BigDecimal sum(int from, int to) {
+            return prefix(to).subtract(prefix(from));
+        }
+
+        void set(int index, BigDecimal value) {
+            add(index, value.subtract(values[index]));
+        }
+
+        void add(int index, BigDecimal delta) {
+            values[index] = values[index].add(delta);
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] = tree[i].add(delta);
+            }
+        }
+
+        private BigDecimal prefix(int to) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = to; i > 0; i -= i & -i) {
+                sum = sum.add(tree[i]);
+            }
+            return sum;
+        }
+    }
+}
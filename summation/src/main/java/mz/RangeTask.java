@@ -0,0 +1,80 @@
+package mz;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join task of the parallel summation.<br>
+ * Splits an index range in halves until it is not larger than the threshold, computes the leaves,
+ * then combines the partial results from left to right, so the order of the values is kept.
+ * <p><i>R</i> type of the partial result.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class RangeTask<R> extends RecursiveTask<R> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default number of elements summed by one leaf.
+     */
+    static final int THRESHOLD = 1 << 13;
+
+    /**
+     * Computes the partial result of a range.
+     * <p><i>R</i> type of the partial result.</p>
+     */
+    @FunctionalInterface
+    interface Leaf<R> {
+
+        /**
+         * @param from first index, inclusive.
+         * @param to last index, exclusive.
+         * @return partial result of the range.
+         */
+        R compute(int from, int to);
+    }
+
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final transient Leaf<R> leaf;
+    private final transient BinaryOperator<R> combiner;
+
+    RangeTask(int from, int to, int threshold, Leaf<R> leaf, BinaryOperator<R> combiner) {
+        this.from = from;
+        this.to = to;
+        this.threshold = Math.max(1, threshold);
+        this.leaf = leaf;
+        this.combiner = combiner;
+    }
+
+    RangeTask(int from, int to, Leaf<R> leaf, BinaryOperator<R> combiner) {
+        this(from, to, THRESHOLD, leaf, combiner);
+    }
+
+    /**
+     * Runs the task in the pool, a range not larger than the threshold is computed in the calling thread.
+     * @param pool pool that runs the subtasks.
+     * @return combined result of the whole range.
+     */
+    R invoke(ForkJoinPool pool) {
+        if (to - from <= threshold) {
+            return leaf.compute(from, to);
+        }
+        return pool.invoke(this);
+    }
+
+    @Override
+    protected R compute() {
+        if (to - from <= threshold) {
+            return leaf.compute(from, to);
+        }
+        int middle = (from + to) >>> 1;
+        RangeTask<R> left = new RangeTask<>(from, middle, threshold, leaf, combiner);
+        left.fork();
+        R right = new RangeTask<>(middle, to, threshold, leaf, combiner).compute();
+        return combiner.apply(left.join(), right);
+    }
+}
@@ -0,0 +1,260 @@
+package mz;
+
+import java.time.Duration;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Moving sum over the last N values or the values of the last period of time.<br>
+ * The values are kept in a primitive ring buffer, {@link #push(Number)} adds the new value to a running sum and removes the expired ones from it,
+ * so both the update and {@link #currentSum()} cost O(1) (amortized for the time window). Integral values are added exactly,
+ * float and double values with Neumaier compensation, so the error does not grow with the number of updates,
+ * and an infinite, NaN or overflowing value no longer affects the sum once it leaves the window.
+ * The sum has the type of the widest value in the window, like {@link Summation#summation(Object)} of the window.
+ * Writers are serialized, readers never block: they read the state optimistically and retry only if a writer interfered.
+ * A time window removes the expired values on update, a reader sees the window as of the last update.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class SlidingWindowSummation<V extends Number> {
+
+    private static final NumberType[] TYPES = NumberType.values();
+
+    /**
+     * Maximum number of values of a count window, 0 for a time window.
+     */
+    private final int size;
+
+    /**
+     * Length of a time window in nanoseconds.
+     */
+    private final long window;
+    private final LongSupplier clock;
+
+    /**
+     * Value of a slot, a long or the bits of a double.
+     */
+    private long[] bits;
+    private byte[] types;
+
+    /**
+     * BigInteger and BigDecimal values, null until the first one.
+     */
+    private Number[] bigs;
+
+    /**
+     * Time of the values of a time window, null for a count window.
+     */
+    private long[] times;
+
+    private int head;
+    private int count;
+    private final int[] typeCounts = new int[TYPES.length];
+    private final MixedSum sum = new MixedSum();
+    private final StampedLock lock = new StampedLock();
+
+    private SlidingWindowSummation(int size, long window, LongSupplier clock) {
+        int capacity = size > 0 ? size : 16;
+        this.size = size;
+        this.window = window;
+        this.clock = clock;
+        this.bits = new long[capacity];
+        this.types = new byte[capacity];
+        this.times = size > 0 ? null : new long[capacity];
+    }
+
+    /**
+     * Creates a window over the last values.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param size number of values in the window.
+     * @return empty window.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public static <V extends Number> SlidingWindowSummation<V> ofCount(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        return new SlidingWindowSummation<>(size, 0, null);
+    }
+
+    /**
+     * Creates a window over the values pushed in the last period of time, measured by {@link System#nanoTime()}.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param window length of the window.
+     * @return empty window.
+     * @throws IllegalArgumentException if the length is not positive.
+     */
+    public static <V extends Number> SlidingWindowSummation<V> ofTime(Duration window) {
+        return ofTime(window, System::nanoTime);
+    }
+
+    /**
+     * Creates a window over the values pushed in the last period of time, measured by the given clock.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param window length of the window.
+     * @param nanoClock monotonic clock in nanoseconds.
+     * @return empty window.
+     * @throws IllegalArgumentException if the length is not positive.
+     */
+    public static <V extends Number> SlidingWindowSummation<V> ofTime(Duration window, LongSupplier nanoClock) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        return new SlidingWindowSummation<>(0, window.toNanos(), nanoClock);
+    }
+
+    /**
+     * Adds a value to the window, the oldest value of a full count window and the expired values of a time window are removed.
+     * @param value value to add, null is skipped.
+     * @return this window.
+     */
+    public SlidingWindowSummation<V> push(V value) {
+        if (value == null) {
+            return this;
+        }
+        NumberType type = NumberType.of(value);
+        long stamp = lock.writeLock();
+        try {
+            if (size > 0) {
+                if (count == size) {
+                    evict();
+                }
+            } else {
+                long now = clock.getAsLong();
+                evictBefore(now - window);
+                if (count == bits.length) {
+                    grow();
+                }
+                times[(head + count) % bits.length] = now;
+            }
+            int tail = (head + count) % bits.length;
+            types[tail] = (byte) type.ordinal();
+            typeCounts[type.ordinal()]++;
+            if (type.compareTo(NumberType.LONG) <= 0) {
+                bits[tail] = value.longValue();
+                sum.add(bits[tail]);
+            } else if (type == NumberType.FLOAT || type == NumberType.DOUBLE) {
+                double d = value.doubleValue();
+                bits[tail] = Double.doubleToRawLongBits(d);
+                sum.add(d);
+            } else {
+                if (bigs == null) {
+                    bigs = new Number[bits.length];
+                }
+                bigs[tail] = value;
+                sum.addBig(value);
+            }
+            count++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return this;
+    }
+
+    /**
+     * Calculates the sum of the values in the window.<br>
+     * The window is read without locking, only {@link #push(Number)} removes the expired values,
+     * so the sum of a time window is the sum as of the last update and still counts the values expired since then.
+     * @return sum with the type of the widest value in the window, null if the window is empty.
+     */
+    public V currentSum() {
+        long stamp = lock.tryOptimisticRead();
+        Number result = sum.result(widest());
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = sum.result(widest());
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return (V) result;
+    }
+
+    /**
+     * @return number of values in the window, the expired values of a time window are counted until the next update.
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = count;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values pushed at or before the specified time, the window covers the half-open period after it.
+     * @param limit latest time that is removed.
+     */
+    private void evictBefore(long limit) {
+        while (count > 0 && times[head] - limit <= 0) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes the oldest value from the running sum.
+     */
+    private void evict() {
+        int type = types[head];
+        typeCounts[type]--;
+        if (type <= NumberType.LONG.ordinal()) {
+            sum.subtract(bits[head]);
+        } else if (type == NumberType.FLOAT.ordinal() || type == NumberType.DOUBLE.ordinal()) {
+            sum.subtract(Double.longBitsToDouble(bits[head]));
+        } else {
+            sum.subtractBig(bigs[head]);
+            bigs[head] = null;
+        }
+        head = (head + 1) % bits.length;
+        if (--count == 0) {
+            sum.reset();
+        }
+    }
+
+    /**
+     * Doubles the ring buffer of a time window, the values are moved to the beginning.
+     */
+    private void grow() {
+        int capacity = bits.length << 1;
+        long[] newBits = new long[capacity];
+        byte[] newTypes = new byte[capacity];
+        long[] newTimes = new long[capacity];
+        Number[] newBigs = bigs == null ? null : new Number[capacity];
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % bits.length;
+            newBits[i] = bits[slot];
+            newTypes[i] = types[slot];
+            newTimes[i] = times[slot];
+            if (newBigs != null) {
+                newBigs[i] = bigs[slot];
+            }
+        }
+        bits = newBits;
+        types = newTypes;
+        times = newTimes;
+        bigs = newBigs;
+        head = 0;
+    }
+
+    /**
+     * @return the widest type in the window, null if it is empty.
+     */
+    private NumberType widest() {
+        NumberType widest = null;
+        for (int i = 0; i < typeCounts.length; i++) {
+            if (typeCounts[i] > 0) {
+                widest = widest == null ? TYPES[i] : widest.widen(TYPES[i]);
+            }
+        }
+        return widest;
+    }
+}
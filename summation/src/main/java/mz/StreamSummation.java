@@ -0,0 +1,363 @@
+package mz;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+
+/**
+ * Sums the numbers of a Reader or an InputStream in one pass with a fixed-size buffer, the values are never collected.<br>
+ * Text is tokenized in the buffer, integral tokens and short decimal tokens are parsed in place without creating a String,
+ * the running sum is kept in primitives while the values fit in Integer, Long or Double.
+ * Only a BigInteger token switches to an {@link Accumulator}.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class StreamSummation {
+
+    /**
+     * Size of the buffer, a single text token cannot be longer.
+     */
+    static final int BUFFER_SIZE = 1 << 13;
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Powers of ten that are exact doubles.
+     */
+    private static final double[] POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Reader reader;
+    private final InputStream in;
+    private final char[] chars = new char[BUFFER_SIZE];
+    private final byte[] bytes;
+
+    /**
+     * Type of the running sum, null until the first value.
+     */
+    private NumberType type;
+    private int intSum;
+    private long longSum;
+    private double doubleSum;
+
+    /**
+     * Takes over the sum after the first BigInteger token.
+     */
+    private Accumulator accumulator;
+
+    private StreamSummation(Reader reader, InputStream in) {
+        this.reader = reader;
+        this.in = in;
+        this.bytes = in == null ? null : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Sums the decimal text of a Reader.
+     * @param reader text to read, it is not closed.
+     * @return sum of the numbers, null if there is none.
+     * @see Summation#summation(Object)
+     */
+    static Number sumText(Reader reader) {
+        return new StreamSummation(reader, null).scan();
+    }
+
+    /**
+     * Sums the decimal text of an InputStream, the bytes are read as ASCII characters.
+     * @param in stream to read, it is not closed.
+     * @return sum of the numbers, null if there is none.
+     * @see Summation#summation(java.io.InputStream, Format)
+     */
+    static Number sumText(InputStream in) {
+        return new StreamSummation(null, in).scan();
+    }
+
+    /**
+     * Sums the binary values of an InputStream.<br>
+     * A value split between two reads is kept at the beginning of the buffer until the rest arrives.
+     * @param in stream to read, it is not closed.
+     * @param format binary format of the values.
+     * @return sum of the values, null if the stream is empty.
+     * @throws IllegalArgumentException if the length of the stream is not a multiple of the size of a value.
+     */
+    static Number sumBinary(InputStream in, Format format) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int size = format.bytes;
+        int length = 0;
+        boolean empty = true;
+        int intSum = 0;
+        long longSum = 0;
+        double doubleSum = 0;
+        try {
+            int n;
+            while ((n = in.read(buffer, length, buffer.length - length)) >= 0) {
+                length += n;
+                int end = length - length % size;
+                empty &= end == 0;
+                if (format == Format.INT32_LE) {
+                    for (int i = 0; i < end; i += Integer.BYTES) {
+                        intSum += (int) INT.get(buffer, i);
+                    }
+                } else if (format == Format.INT64_LE) {
+                    for (int i = 0; i < end; i += Long.BYTES) {
+                        longSum += (long) LONG.get(buffer, i);
+                    }
+                } else {
+                    for (int i = 0; i < end; i += Double.BYTES) {
+                        doubleSum += (double) DOUBLE.get(buffer, i);
+                    }
+                }
+                System.arraycopy(buffer, end, buffer, 0, length - end);
+                length -= end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (length != 0) {
+            throw new IllegalArgumentException("Truncated stream! The last value has " + length + " of " + size + " bytes");
+        } else if (empty) {
+            return null;
+        } else if (format == Format.INT32_LE) {
+            return intSum;
+        } else if (format == Format.INT64_LE) {
+            return longSum;
+        } else {
+            return doubleSum;
+        }
+    }
+
+    /**
+     * Reads the source to the end token by token.<br>
+     * A token that reaches the end of the buffer is moved to its beginning, then the buffer is refilled behind it.
+     * @return sum of the tokens, null if there is none.
+     */
+    private Number scan() {
+        char[] buffer = chars;
+        int length = 0;
+        int position = 0;
+        boolean eof = false;
+        try {
+            while (true) {
+                while (position < length && isDelimiter(buffer[position])) {
+                    position++;
+                }
+                if (position == length) {
+                    if (eof) {
+                        break;
+                    }
+                    position = 0;
+                    length = 0;
+                    int n = fill(0);
+                    if (n < 0) {
+                        eof = true;
+                    } else {
+                        length = n;
+                    }
+                    continue;
+                }
+                int token = position;
+                while (position < length && !isDelimiter(buffer[position])) {
+                    position++;
+                }
+                if (position == length && !eof) {
+                    if (token == 0 && length == buffer.length) {
+                        throw new NumberFormatException("Number is longer than " + buffer.length + " characters");
+                    }
+                    System.arraycopy(buffer, token, buffer, 0, length - token);
+                    length -= token;
+                    position = 0;
+                    int n = fill(length);
+                    if (n < 0) {
+                        eof = true;
+                    } else {
+                        length += n;
+                    }
+                    continue;
+                }
+                parse(buffer, token, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result();
+    }
+
+    /**
+     * Reads the next characters behind the specified offset.
+     * @param offset first free index of the buffer.
+     * @return number of characters read, -1 at the end of the source.
+     * @throws IOException if the source cannot be read.
+     */
+    private int fill(int offset) throws IOException {
+        if (reader != null) {
+            return reader.read(chars, offset, chars.length - offset);
+        }
+        int n = in.read(bytes, offset, bytes.length - offset);
+        for (int i = offset; i < offset + n; i++) {
+            chars[i] = (char) (bytes[i] & 0xFF);
+        }
+        return n;
+    }
+
+    /**
+     * @param c character of the text.
+     * @return true if the character separates two numbers.
+     */
+    private static boolean isDelimiter(char c) {
+        return c <= ' ' || c == ',' || c == ';' || c == '|' || c == '\uFEFF';
+    }
+
+    /**
+     * Parses a token and adds it.<br>
+     * Integral tokens of at most 18 digits and decimal tokens whose digits fit in 53 bits with at most 22 fraction digits are parsed in place,
+     * the decimal value is correctly rounded because both the digits and the power of ten are exact doubles.
+     * Every other token is parsed from a String.
+     * @param buffer characters of the text.
+     * @param from first index of the token, inclusive.
+     * @param to last index of the token, exclusive.
+     * @throws NumberFormatException if the token is not a number.
+     */
+    private void parse(char[] buffer, int from, int to) {
+        int i = from;
+        boolean negative = buffer[i] == '-';
+        if (negative || buffer[i] == '+') {
+            i++;
+        }
+        long digits = 0;
+        int count = 0;
+        while (i < to && buffer[i] >= '0' && buffer[i] <= '9' && count < 18) {
+            digits = digits * 10 + (buffer[i++] - '0');
+            count++;
+        }
+        if (i == to && count > 0) {
+            addIntegral(negative ? -digits : digits);
+            return;
+        } else if (i < to && buffer[i] == '.') {
+            int point = ++i;
+            while (i < to && buffer[i] >= '0' && buffer[i] <= '9' && count < 18) {
+                digits = digits * 10 + (buffer[i++] - '0');
+                count++;
+            }
+            int fraction = i - point;
+            if (i == to && count > 0 && digits < (1L << 53) && fraction < POWERS.length) {
+                double value = digits / POWERS[fraction];
+                addDouble(negative ? -value : value);
+                return;
+            }
+        }
+        String text = new String(buffer, from, to - from);
+        if (isIntegral(buffer, from, to)) {
+            BigInteger value = new BigInteger(text);
+            if (value.bitLength() < Long.SIZE) {
+                addIntegral(value.longValue());
+            } else {
+                addBig(value);
+            }
+        } else {
+            addDouble(Double.parseDouble(text));
+        }
+    }
+
+    /**
+     * @param buffer characters of the text.
+     * @param from first index of the token, inclusive.
+     * @param to last index of the token, exclusive.
+     * @return true if the token has only digits after an optional sign.
+     */
+    private static boolean isIntegral(char[] buffer, int from, int to) {
+        int i = buffer[from] == '-' || buffer[from] == '+' ? from + 1 : from;
+        if (i == to) {
+            return false;
+        }
+        for (; i < to; i++) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds an integral value as Integer if it fits, otherwise as Long.
+     * @param value value to add.
+     */
+    private void addIntegral(long value) {
+        boolean fitsInt = (int) value == value;
+        if (accumulator != null) {
+            addBig(fitsInt ? (Number) (int) value : (Number) value);
+            return;
+        } else if (type == null) {
+            type = fitsInt ? NumberType.INTEGER : NumberType.LONG;
+        } else if (type == NumberType.INTEGER && !fitsInt) {
+            longSum = intSum;
+            type = NumberType.LONG;
+        }
+        if (type == NumberType.INTEGER) {
+            intSum += (int) value;
+        } else if (type == NumberType.LONG) {
+            longSum += value;
+        } else {
+            doubleSum += value;
+        }
+    }
+
+    /**
+     * Adds a Double value, an Integer or Long sum is promoted first.
+     * @param value value to add.
+     */
+    private void addDouble(double value) {
+        if (accumulator != null) {
+            addBig(value);
+            return;
+        } else if (type == NumberType.INTEGER) {
+            doubleSum = intSum;
+        } else if (type == NumberType.LONG) {
+            doubleSum = longSum;
+        }
+        type = NumberType.DOUBLE;
+        doubleSum += value;
+    }
+
+    /**
+     * Adds a value on the accumulator, the primitive sum is moved into it at the first call.
+     * @param value value to add.
+     */
+    private void addBig(Number value) {
+        if (accumulator == null) {
+            Number sum = result();
+            accumulator = Accumulator.of(type == null ? NumberType.of(value) : type);
+            if (sum != null) {
+                accumulator.accumulate(sum);
+            }
+        }
+        if (!accumulator.add(value)) {
+            accumulator = accumulator.widen(NumberType.of(value));
+            accumulator.accumulate(value);
+        }
+    }
+
+    /**
+     * @return boxed sum, null if no value was added.
+     */
+    private Number result() {
+        if (accumulator != null) {
+            return accumulator.result();
+        } else if (type == null) {
+            return null;
+        } else if (type == NumberType.INTEGER) {
+            return intSum;
+        } else if (type == NumberType.LONG) {
+            return longSum;
+        } else {
+            return doubleSum;
+        }
+    }
+}
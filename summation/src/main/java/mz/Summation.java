@@ -0,0 +1,1679 @@
+package mz;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Summation class:
+ * with its static methods, the Number class can calculate inheritance classes, return the sum of its values, transform.<br>
+ * can handle:
+ * <ul>
+ *     <li>{@code Array}</li>
+ *     <li>{@code Collection}</li>
+ *     <li>{@code Map}</li>
+ * </ul>
+ * It can decompose these types and also calculate the internal values.
+ * Class cannot be inherited or instantiated, its methods cannot be overridden.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class Summation {
+
+    /**
+     * Cannot be instantiated!
+     */
+    private Summation(){}
+
+    /**
+     * Adds two values of common type Number.<br>
+     * <p><i>V extends Number</i>  two values given in 1 common type that come from the Number class.</p>
+     * @param a first value.
+     * @param b second value.
+     * @return sum of two values.
+     */
+    public static <V extends Number> V summation(V a, V b) {
+        return newInstanceofNumber(a, b);
+    }
+
+    /**
+     * Calculates the sum of the values of the corresponding variable specified.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.
+     * Primitive arrays (int[], long[], double[], float[], short[], byte[]) are summed with a primitive accumulator, only the result is boxed.
+     * A Reader or an InputStream is read to the end as decimal text like {@link Format#TEXT}, it is not closed.
+     * A Stream is consumed with {@link #collector()}, an IntStream, LongStream or DoubleStream is added on primitives, a parallel stream runs in parallel.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values, internal values must be of type Number!
+     * @return After deciding on the type, it gives the sum of the values in it.
+     * @throws java.io.UncheckedIOException if the Reader or the InputStream cannot be read.
+     */
+    public static <V extends Number, T> V summation(T x) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = computeSumOf(x);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, x, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of the values of the variable, the work of {@link #summation(Object)} without its probe.<br>
+     * Entry points that add inner values call this method, so a public call is recorded once.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection, Map, primitive array, Reader or InputStream.
+     * @return sum of the values.
+     */
+    private static <V extends Number> V computeSumOf(Object x) {
+        if (x instanceof Number[]) {
+            return computeSum((V[]) x);
+        } else if (x instanceof Collection) {
+            return computeSum((Collection<V>) x);
+        } else if (x instanceof Map) {
+            return computeSum((Map<?,V>) x);
+        } else if (x instanceof int[]) {
+            return (V) Integer.valueOf(computeSum((int[]) x, 0, ((int[]) x).length));
+        } else if (x instanceof long[]) {
+            return (V) Long.valueOf(computeSum((long[]) x, 0, ((long[]) x).length));
+        } else if (x instanceof double[]) {
+            return (V) Double.valueOf(computeSum((double[]) x, 0, ((double[]) x).length));
+        } else if (x instanceof float[]) {
+            return (V) Float.valueOf(computeSum((float[]) x, 0, ((float[]) x).length));
+        } else if (x instanceof short[]) {
+            return (V) Short.valueOf(computeSum((short[]) x, 0, ((short[]) x).length));
+        } else if (x instanceof byte[]) {
+            return (V) Byte.valueOf(computeSum((byte[]) x, 0, ((byte[]) x).length));
+        } else if (x instanceof Reader) {
+            return (V) StreamSummation.sumText((Reader) x);
+        } else if (x instanceof InputStream) {
+            return (V) StreamSummation.sumText((InputStream) x);
+        } else if (x instanceof Stream) {
+            return ((Stream<V>) x).collect(collector());
+        } else if (x instanceof IntStream) {
+            return (V) Integer.valueOf(((IntStream) x).sum());
+        } else if (x instanceof LongStream) {
+            return (V) Long.valueOf(((LongStream) x).sum());
+        } else if (x instanceof DoubleStream) {
+            return (V) Double.valueOf(((DoubleStream) x).reduce(0, Double::sum));
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map, int[], long[], double[], float[], short[], byte[], Reader, InputStream, Stream");
+        }
+    }
+
+    /**
+     * Collector that adds the elements of a Stream like {@link #summation(Object)}, without collecting them first.<br>
+     * Every thread of a parallel stream adds its part on a {@link SummationAccumulator}, a primitive accumulator of the widest type seen,
+     * then the parts are merged in encounter order, so float and double sums are grouped the same way in every run.
+     * Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @return collector of the sum, its result is null if the stream has no non-null element.
+     */
+    public static <V extends Number> Collector<V, ?, V> collector() {
+        return collector(SummationMode.DEFAULT);
+    }
+
+    /**
+     * Collector that adds the elements of a Stream like {@link #summation(Object, SummationMode)}, without collecting them first.<br>
+     * Every thread of a parallel stream adds its part on its own {@link SummationAccumulator}, the parts are merged in encounter order.
+     * Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param mode how the values are added, {@code EXACT} sums are collected with {@link #exactCollector()} or {@link #exactIntegerCollector()}.
+     * @return collector of the sum, its result is null if the stream has no non-null element.
+     * @throws IllegalArgumentException if the mode is {@code EXACT}.
+     */
+    public static <V extends Number> Collector<V, ?, V> collector(SummationMode mode) {
+        if (mode == SummationMode.EXACT) {
+            throw new IllegalArgumentException("Unsupported mode! An EXACT sum is collected with exactCollector() or exactIntegerCollector()");
+        }
+        return Collector.of(() -> new SummationAccumulator<V>(mode), SummationAccumulator::add, SummationAccumulator::merge, SummationAccumulator::result);
+    }
+
+    /**
+     * Collector that adds the elements of a Stream like {@link #summation(Object, SummationMode)} in {@code EXACT} mode.<br>
+     * Integral values are added in a 128-bit accumulator, floating point and BigDecimal values as BigDecimal, nothing overflows or rounds.
+     * Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @return collector of the exact sum, its result is null if the stream has no non-null element.
+     */
+    public static <V extends Number> Collector<V, ?, BigDecimal> exactCollector() {
+        return Collector.of(() -> new SummationAccumulator<V>(SummationMode.EXACT), SummationAccumulator::add, SummationAccumulator::merge, SummationAccumulator::exactResult);
+    }
+
+    /**
+     * Collector that adds the integral elements of a Stream like {@link #summation(Object, SummationMode)} in {@code EXACT} mode.<br>
+     * Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @return collector of the exact sum, its result is null if the stream has no non-null element.
+     * @throws ArithmeticException on finishing, if the sum has a nonzero fractional part.
+     */
+    public static <V extends Number> Collector<V, ?, BigInteger> exactIntegerCollector() {
+        return Collector.of(() -> new SummationAccumulator<V>(SummationMode.EXACT), SummationAccumulator::add, SummationAccumulator::merge, SummationAccumulator::exactIntegerResult);
+    }
+
+    /**
+     * Collector of a Stream of the given type, the sum has the type and the overflow of {@link #summation(Object, Object)}.<br>
+     * Byte, Short, Integer, Long, BigInteger and BigDecimal sums are exact in any order, their collector is {@code CONCURRENT} and {@code UNORDERED}:
+     * the threads of a parallel stream add to one {@link ConcurrentSummationAccumulator} without splitting and merging containers.
+     * Float, Double and any other type are added like {@link #collector()}, in encounter order.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param type class of the elements.
+     * @return collector of the sum, its result is null if the stream has no non-null element.
+     */
+    public static <V extends Number> Collector<V, ?, V> collector(Class<V> type) {
+        boolean exact = type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+                || BigInteger.class.isAssignableFrom(type) || BigDecimal.class.isAssignableFrom(type);
+        if (!exact) {
+            return collector();
+        }
+        return Collector.of(ConcurrentSummationAccumulator<V>::new, ConcurrentSummationAccumulator::add, (left, right) -> {
+            V sum = right.sum();
+            return sum == null ? left : left.add(sum);
+        }, ConcurrentSummationAccumulator::sum, Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Calculates the sum of the numbers of a stream without collecting them, the stream is read once with a fixed-size buffer.<br>
+     * Text gives the same sum as {@link #summation(Object)} of the parsed values, binary values give the sum of the corresponding primitive array.
+     * <p><i>V extends Number</i> Integer, Long, Double or BigInteger according to the values.</p>
+     * @param in stream to read to the end, it is not closed.
+     * @param format encoding of the numbers.
+     * @return sum of the numbers, null if the stream has none.
+     * @throws NumberFormatException if a text token is not a number.
+     * @throws IllegalArgumentException if a binary stream ends inside a value.
+     * @throws java.io.UncheckedIOException if the stream cannot be read.
+     */
+    public static <V extends Number> V summation(InputStream in, Format format) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = (V) (format == Format.TEXT ? StreamSummation.sumText(in) : StreamSummation.sumBinary(in, format));
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, in, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of the remaining values of a buffer without copying them, a direct buffer can hold the values off-heap.<br>
+     * The values are read from the position to the limit in the byte order of the buffer, the position and the limit are not changed.
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param buffer buffer of the values.
+     * @param type layout of the values.
+     * @return sum of the values like {@link #summation(Object)} of the same values in a Number[], null if there is none.
+     * @see Summation#summation(ByteBuffer, ElementType, int, int)
+     */
+    public static <V extends Number> V summation(ByteBuffer buffer, ElementType type) {
+        return summation(buffer, type, 0, type.bytes);
+    }
+
+    /**
+     * Calculates the sum of a field of interleaved records of a buffer without copying them.<br>
+     * The first value starts {@code offset} bytes after the position, every next one {@code stride} bytes later, while it ends before the limit.
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param buffer buffer of the records.
+     * @param type layout of the values.
+     * @param offset distance of the first value from the position in bytes.
+     * @param stride size of a record in bytes, at least the size of a value.
+     * @return sum of the values, null if there is none.
+     * @throws IllegalArgumentException if the offset is negative or the stride is smaller than a value.
+     */
+    public static <V extends Number> V summation(ByteBuffer buffer, ElementType type, int offset, int stride) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = (V) BufferSummation.sum(buffer, type, offset, stride, null);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, buffer, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of the remaining values of a buffer on the common fork/join pool without copying them.<br>
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param buffer buffer of the values.
+     * @param type layout of the values.
+     * @return sum of the values, null if there is none.
+     * @see Summation#parallelSummation(ByteBuffer, ElementType, int, int, ForkJoinPool)
+     */
+    public static <V extends Number> V parallelSummation(ByteBuffer buffer, ElementType type) {
+        return parallelSummation(buffer, type, 0, type.bytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the sum of a field of interleaved records of a buffer on the given fork/join pool without copying them.<br>
+     * The records are split into ranges of {@value RangeTask#THRESHOLD} values,
+     * double sums can differ in the last bits from the sequential sum, because the values are grouped differently.
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param buffer buffer of the records.
+     * @param type layout of the values.
+     * @param offset distance of the first value from the position in bytes.
+     * @param stride size of a record in bytes, at least the size of a value.
+     * @param pool pool that runs the subtasks.
+     * @return sum of the values, null if there is none.
+     * @throws IllegalArgumentException if the offset is negative or the stride is smaller than a value.
+     */
+    public static <V extends Number> V parallelSummation(ByteBuffer buffer, ElementType type, int offset, int stride, ForkJoinPool pool) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = (V) BufferSummation.sum(buffer, type, offset, stride, pool);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, buffer, true);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of a binary file of little-endian values, the file is memory-mapped and summed in file order from the mapped buffers.<br>
+     * Files larger than 2 GB are walked through several mappings, no value is copied to the heap.
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param path binary file of the values.
+     * @param type layout of the values.
+     * @return sum of the values like the sum of the corresponding primitive array, null if the file is empty.
+     * @throws IllegalArgumentException if the size of the file is not a multiple of the size of a value.
+     * @throws java.io.UncheckedIOException if the file cannot be mapped.
+     * @see Summation#summationMapped(Path, ElementType, ByteOrder)
+     */
+    public static <V extends Number> V summationMapped(Path path, ElementType type) {
+        return summationMapped(path, type, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Calculates the sum of a binary file of values in the specified byte order, the file is memory-mapped and summed in file order from the mapped buffers.<br>
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param path binary file of the values.
+     * @param type layout of the values.
+     * @param order byte order of the values.
+     * @return sum of the values like the sum of the corresponding primitive array, null if the file is empty.
+     * @throws IllegalArgumentException if the size of the file is not a multiple of the size of a value.
+     * @throws java.io.UncheckedIOException if the file cannot be mapped.
+     */
+    public static <V extends Number> V summationMapped(Path path, ElementType type, ByteOrder order) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = (V) BufferSummation.sumMapped(path, type, order, null);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, path, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of a binary file of little-endian values on the common fork/join pool, the blocks of the mapped file are summed in parallel.<br>
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param path binary file of the values.
+     * @param type layout of the values.
+     * @return sum of the values, null if the file is empty.
+     * @see Summation#parallelSummationMapped(Path, ElementType, ByteOrder, ForkJoinPool)
+     */
+    public static <V extends Number> V parallelSummationMapped(Path path, ElementType type) {
+        return parallelSummationMapped(path, type, ByteOrder.LITTLE_ENDIAN, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the sum of a binary file of values on the given fork/join pool, the blocks of the mapped file are summed in parallel.<br>
+     * Integral sums are the same as the sequential sum, double sums can differ in the last bits, because the values are grouped differently.
+     * <p><i>V extends Number</i> Integer, Long or Double according to the element type.</p>
+     * @param path binary file of the values.
+     * @param type layout of the values.
+     * @param order byte order of the values.
+     * @param pool pool that runs the subtasks.
+     * @return sum of the values, null if the file is empty.
+     * @throws IllegalArgumentException if the size of the file is not a multiple of the size of a value.
+     * @throws java.io.UncheckedIOException if the file cannot be mapped.
+     */
+    public static <V extends Number> V parallelSummationMapped(Path path, ElementType type, ByteOrder order, ForkJoinPool pool) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = (V) BufferSummation.sumMapped(path, type, order, pool);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, path, true);
+        return sum;
+    }
+
+    /**
+     * Calculates the exact sum of the values of the corresponding variable as BigDecimal, then rounds it.<br>
+     * Every value is converted to BigDecimal, the unscaled values are added in a long while they fit,
+     * only an overflow or a larger scale falls back to a running BigDecimal addition.
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values, internal values must be of type Number!
+     * @param mathContext precision and rounding of the result, {@link MathContext#UNLIMITED} keeps the exact sum.
+     * @return exact sum of the values rounded to the specified context, zero if there is no value.
+     */
+    public static <T> BigDecimal summation(T x, MathContext mathContext) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        BigDecimal sum = computeDecimalSum(x, mathContext);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, x, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the rounded exact sum, the work of {@link #summation(Object, MathContext)} without its probe.
+     * @param x Number, Collection or Map.
+     * @param mathContext precision and rounding of the result.
+     * @return exact sum of the values rounded to the context.
+     */
+    private static BigDecimal computeDecimalSum(Object x, MathContext mathContext) {
+        Accumulator accumulator = Accumulator.of(NumberType.BIG_DECIMAL);
+        if (x instanceof Number[]) {
+            accumulator = computeSum(accumulator, (Number[]) x, 0, ((Number[]) x).length);
+        } else if (x instanceof Collection) {
+            accumulator = computeSum(accumulator, ((Collection<? extends Number>) x).iterator());
+        } else if (x instanceof Map) {
+            accumulator = computeSum(accumulator, ((Map<?, ? extends Number>) x).values().iterator());
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map");
+        }
+        return ((BigDecimal) accumulator.result()).round(mathContext);
+    }
+
+    /**
+     * Calculates the sum of the values of the corresponding variable specified, in the selected mode.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map,
+     * or primitive arrays.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values, internal values must be of type Number!
+     * @param mode how the values are added.
+     * @return sum of the values, see {@link SummationMode} for its type.
+     */
+    public static <V extends Number, T> V summation(T x, SummationMode mode) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = computeSumOf(x, mode);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, x, false);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum in the selected mode, the work of {@link #summation(Object, SummationMode)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection, Map or primitive array.
+     * @param mode how the values are added.
+     * @return sum of the values.
+     */
+    private static <V extends Number> V computeSumOf(Object x, SummationMode mode) {
+        switch (mode) {
+            case EXACT:
+                return (V) computeExactSum(x);
+            case COMPENSATED:
+            case PAIRWISE:
+                return computeFloatingSum(x, mode);
+            default:
+                return computeSumOf(x);
+        }
+    }
+
+    /**
+     * Calculates the sum of the values of the corresponding variable specified on the common fork/join pool.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, List, primitive array</i> Number[], primitive arrays and RandomAccess lists are split,
+     * any other Collection or Map is added like {@link #summation(Object)}.</p>
+     * @param x Number, Collection, Map or primitive array type variable that calculates the sum of its internal values.
+     * @return sum of the values with the same type as {@link #summation(Object)}.
+     * @see Summation#parallelSummation(Object, ForkJoinPool)
+     */
+    public static <V extends Number, T> V parallelSummation(T x) {
+        return parallelSummation(x, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the sum of the values of the corresponding variable specified on the given fork/join pool.<br>
+     * The input is split into ranges of {@value RangeTask#THRESHOLD} elements, every range is added on its own accumulator,
+     * then the partial sums are merged in order with the type promotion of {@link #summation(Object)}.
+     * Float and double sums can differ in the last bits from the sequential sum, because the values are grouped differently.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, List, primitive array</i> Number[], primitive arrays and RandomAccess lists are split,
+     * any other Collection or Map is added like {@link #summation(Object)}.</p>
+     * @param x Number, Collection, Map or primitive array type variable that calculates the sum of its internal values.
+     * @param pool pool that runs the subtasks.
+     * @return sum of the values with the same type as {@link #summation(Object)}.
+     */
+    public static <V extends Number, T> V parallelSummation(T x, ForkJoinPool pool) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V sum = computeParallelSum(x, pool);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION, x, true);
+        return sum;
+    }
+
+    /**
+     * Calculates the sum of the values of the variable on the pool, the work of {@link #parallelSummation(Object, ForkJoinPool)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection, Map or primitive array.
+     * @param pool pool that runs the subtasks.
+     * @return sum of the values.
+     */
+    private static <V extends Number> V computeParallelSum(Object x, ForkJoinPool pool) {
+        Accumulator accumulator;
+        if (x instanceof Number[]) {
+            Number[] values = (Number[]) x;
+            accumulator = new RangeTask<>(0, values.length, (from, to) -> accumulate(values, from, to, SummationMode.DEFAULT), Accumulator::combine).invoke(pool);
+        } else if (x instanceof List && x instanceof RandomAccess) {
+            List<? extends Number> values = (List<? extends Number>) x;
+            accumulator = new RangeTask<>(0, values.size(), (from, to) -> accumulate(values.subList(from, to).iterator(), SummationMode.DEFAULT), Accumulator::combine).invoke(pool);
+        } else if (x instanceof int[]) {
+            int[] values = (int[]) x;
+            return (V) new RangeTask<Integer>(0, values.length, (from, to) -> computeSum(values, from, to), Integer::sum).invoke(pool);
+        } else if (x instanceof long[]) {
+            long[] values = (long[]) x;
+            return (V) new RangeTask<Long>(0, values.length, (from, to) -> computeSum(values, from, to), Long::sum).invoke(pool);
+        } else if (x instanceof double[]) {
+            double[] values = (double[]) x;
+            return (V) new RangeTask<Double>(0, values.length, (from, to) -> SummationKernel.sumUnordered(values, from, to), Double::sum).invoke(pool);
+        } else if (x instanceof float[]) {
+            float[] values = (float[]) x;
+            return (V) new RangeTask<Float>(0, values.length, (from, to) -> SummationKernel.sumUnordered(values, from, to), Float::sum).invoke(pool);
+        } else if (x instanceof short[]) {
+            short[] values = (short[]) x;
+            return (V) new RangeTask<Short>(0, values.length, (from, to) -> computeSum(values, from, to), (a, b) -> (short) (a + b)).invoke(pool);
+        } else if (x instanceof byte[]) {
+            byte[] values = (byte[]) x;
+            return (V) new RangeTask<Byte>(0, values.length, (from, to) -> computeSum(values, from, to), (a, b) -> (byte) (a + b)).invoke(pool);
+        } else {
+            return computeSumOf(x);
+        }
+        return accumulator == null ? null : (V) accumulator.result();
+    }
+
+    /**
+     * It calculates the sum of the values of the given corresponding variable, and returns it stored in an array.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.
+     * Two-dimensional primitive arrays (int[][], long[][], double[][], float[][], short[][], byte[][]) give one boxed sum per row.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @return An array containing the internal values of the expanded selected variable. Its type will be the type of the variable's internal values.
+     */
+    public static <V extends Number, T> V[] summationArray(T x) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V[] sums = computeSumArray(x);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_ARRAY, x, false);
+        return sums;
+    }
+
+    /**
+     * Calculates one sum per inner value, the work of {@link #summationArray(Object)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection or Map type variable, or a two-dimensional primitive array.
+     * @return one sum per inner value.
+     */
+    private static <V extends Number> V[] computeSumArray(Object x) {
+        if (x instanceof int[][]) {
+            return (V[]) summationArray1((int[][]) x);
+        } else if (x instanceof long[][]) {
+            return (V[]) summationArray2((long[][]) x);
+        } else if (x instanceof double[][]) {
+            return (V[]) summationArray3((double[][]) x);
+        } else if (x instanceof float[][]) {
+            return (V[]) summationArray4((float[][]) x);
+        } else if (x instanceof short[][]) {
+            return (V[]) summationArray5((short[][]) x);
+        } else if (x instanceof byte[][]) {
+            return (V[]) summationArray6((byte[][]) x);
+        } else if (x instanceof Number[][] || x instanceof Collection[] || x instanceof Map[] || x instanceof Collection || x instanceof Map) {
+            GroupArray sums = new GroupArray(groupCount(x));
+            reduceGroups(x, sums);
+            return (V[]) sums.array();
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map, int[][], long[][], double[][], float[][], short[][], byte[][]");
+        }
+    }
+
+    /**
+     * It calculates the sum of the values of the given corresponding variable, and writes them into a caller-owned buffer.<br>
+     * The buffer is filled in place and grows only if it is too small, so repeated calls on inputs of similar shape do not allocate a result array,
+     * two-dimensional primitive arrays into a primitive buffer run without any allocation.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param destination buffer of the sums, slot i receives the sum of the i-th inner value.
+     * @return number of slots written, the same as {@link SummationBuffer#size()}.
+     * @throws ArrayStoreException if a boxed buffer cannot hold the type of the sums.
+     */
+    public static <V extends Number, T> int summationArray(T x, SummationBuffer<V> destination) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        int size = computeSumArray(x, destination);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_ARRAY, x, false);
+        return size;
+    }
+
+    /**
+     * Writes one sum per inner value into the buffer, the work of {@link #summationArray(Object, SummationBuffer)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection or Map type variable, or a two-dimensional primitive array.
+     * @param destination buffer of the sums.
+     * @return number of slots written.
+     */
+    private static <V extends Number> int computeSumArray(Object x, SummationBuffer<V> destination) {
+        if (!isPrimitiveMatrix(x)) {
+            destination.prepare(groupCount(x));
+            reduceGroups(x, destination::put);
+            return destination.size();
+        }
+        Object[] rows = (Object[]) x;
+        destination.prepare(rows.length);
+        boolean boxed = destination.isBoxed();
+        for (int i = 0; i < rows.length; i++) {
+            Object row = rows[i];
+            if (row instanceof int[]) {
+                int sum = computeSum((int[]) row, 0, ((int[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, (long) sum);
+                }
+            } else if (row instanceof long[]) {
+                long sum = computeSum((long[]) row, 0, ((long[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, sum);
+                }
+            } else if (row instanceof double[]) {
+                double sum = computeSum((double[]) row, 0, ((double[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, sum);
+                }
+            } else if (row instanceof float[]) {
+                float sum = computeSum((float[]) row, 0, ((float[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, (double) sum);
+                }
+            } else if (row instanceof short[]) {
+                short sum = computeSum((short[]) row, 0, ((short[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, (long) sum);
+                }
+            } else {
+                byte sum = computeSum((byte[]) row, 0, ((byte[]) row).length);
+                if (boxed) {
+                    destination.put(i, (Number) sum);
+                } else {
+                    destination.put(i, (long) sum);
+                }
+            }
+        }
+        return rows.length;
+    }
+
+    /**
+     * It calculates the sum of the values of the given corresponding variable on the common fork/join pool, and returns it stored in an array.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @return An array containing one sum per inner value.
+     * @see Summation#parallelSummationArray(Object, ForkJoinPool)
+     */
+    public static <V extends Number, T> V[] parallelSummationArray(T x) {
+        return parallelSummationArray(x, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * It calculates the sum of the values of the given corresponding variable on the given fork/join pool, and returns it stored in an array.<br>
+     * The inner values are split into groups between the workers, every inner value is added like {@link #summation(Object)}.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param pool pool that runs the subtasks.
+     * @return An array containing one sum per inner value. Its type will be the type of the sums if they have a common type.
+     */
+    public static <V extends Number, T> V[] parallelSummationArray(T x, ForkJoinPool pool) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V[] sums = computeParallelSumArray(x, pool);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_ARRAY, x, true);
+        return sums;
+    }
+
+    /**
+     * Calculates one sum per inner value on the pool, the work of {@link #parallelSummationArray(Object, ForkJoinPool)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x Number, Collection or Map type variable, or a two-dimensional primitive array.
+     * @param pool pool that runs the subtasks.
+     * @return one sum per inner value.
+     */
+    private static <V extends Number> V[] computeParallelSumArray(Object x, ForkJoinPool pool) {
+        Object[] groups;
+        if (x instanceof Number[][] || x instanceof Collection[] || x instanceof Map[] || x instanceof int[][] || x instanceof long[][]
+                || x instanceof double[][] || x instanceof float[][] || x instanceof short[][] || x instanceof byte[][]) {
+            groups = (Object[]) x;
+        } else if (x instanceof Collection) {
+            if (((Collection<?>) x).isEmpty()) {
+                throw new IllegalArgumentException("Collection cannot be empty");
+            }
+            groups = ((Collection<?>) x).toArray();
+        } else if (x instanceof Map) {
+            if (((Map<?, ?>) x).isEmpty()) {
+                throw new IllegalArgumentException("Map cannot be empty");
+            }
+            groups = ((Map<?, ?>) x).values().toArray();
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map, int[][], long[][], double[][], float[][], short[][], byte[][]");
+        }
+        Number[] sums = new Number[groups.length];
+        int threshold = groups.length / (pool.getParallelism() * 8);
+        new RangeTask<Void>(0, groups.length, threshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                sums[i] = computeSumOf(groups[i]);
+            }
+            return null;
+        }, (a, b) -> null).invoke(pool);
+        return (V[]) newInstanceofCommonArray(sums);
+    }
+
+    /**
+     * It calculates the column sums of a two-dimensional input, and returns them stored in an array.<br>
+     * The rows can have different lengths, the array is as long as the longest row and a column only counts the rows that reach it.
+     * Primitive columns are added from the first row to the last one, so the float and double sums are the same as adding the columns one by one.
+     * Boxed rows are walked in tiles of columns with primitive accumulators per column, a column sum has the type of the widest value of the column,
+     * integral values are added exactly and then narrowed like the boxed addition.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], Collection of Number[], List of List, int[][], long[][], double[][], float[][], short[][], byte[][]</i> Two-dimensional inputs.</p>
+     * @param x two-dimensional input whose column sums you want.
+     * @return An array containing one sum per column, null for a column of null values. Its type will be the type of the sums if they have a common type.
+     * @see Summation#summationArray(Object)
+     */
+    public static <V extends Number, T> V[] summationColumns(T x) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V[] sums = computeColumns(x);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_COLUMNS, x, false);
+        return sums;
+    }
+
+    /**
+     * Calculates the column sums, the work of {@link #summationColumns(Object)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x two-dimensional input.
+     * @return one sum per column.
+     */
+    private static <V extends Number> V[] computeColumns(Object x) {
+        if (isPrimitiveMatrix(x)) {
+            return boxColumns(x, primitiveColumns((Object[]) x));
+        }
+        Object[] rows = ColumnSummation.rows(x);
+        return (V[]) newInstanceofCommonArray(new ColumnSummation(ColumnSummation.columns(rows)).add(rows, 0, rows.length).result());
+    }
+
+    /**
+     * It calculates the column sums of a two-dimensional input on the common fork/join pool, and returns them stored in an array.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], Collection of Number[], List of List, int[][], long[][], double[][], float[][], short[][], byte[][]</i> Two-dimensional inputs.</p>
+     * @param x two-dimensional input whose column sums you want.
+     * @return An array containing one sum per column.
+     * @see Summation#parallelSummationColumns(Object, ForkJoinPool)
+     */
+    public static <V extends Number, T> V[] parallelSummationColumns(T x) {
+        return parallelSummationColumns(x, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * It calculates the column sums of a two-dimensional input on the given fork/join pool, and returns them stored in an array.<br>
+     * The rows are split between the workers, every worker adds its rows into its own column vectors and the vectors are merged at the end.
+     * Float and double columns are added in a different order than by {@link #summationColumns(Object)}, so they can differ in the last bits.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], Collection of Number[], List of List, int[][], long[][], double[][], float[][], short[][], byte[][]</i> Two-dimensional inputs.</p>
+     * @param x two-dimensional input whose column sums you want.
+     * @param pool pool that runs the subtasks.
+     * @return An array containing one sum per column, null for a column of null values. Its type will be the type of the sums if they have a common type.
+     */
+    public static <V extends Number, T> V[] parallelSummationColumns(T x, ForkJoinPool pool) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        V[] sums = computeParallelColumns(x, pool);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_COLUMNS, x, true);
+        return sums;
+    }
+
+    /**
+     * Calculates the column sums on the pool, the work of {@link #parallelSummationColumns(Object, ForkJoinPool)} without its probe.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param x two-dimensional input.
+     * @param pool pool that runs the subtasks.
+     * @return one sum per column.
+     */
+    private static <V extends Number> V[] computeParallelColumns(Object x, ForkJoinPool pool) {
+        if (isPrimitiveMatrix(x)) {
+            Object[] rows = (Object[]) x;
+            return boxColumns(x, new RangeTask<>(0, rows.length, rows.length / (pool.getParallelism() * 4),
+                    (from, to) -> primitiveColumns(Arrays.copyOfRange(rows, from, to)), SummationKernel::addColumns).invoke(pool));
+        }
+        Object[] rows = ColumnSummation.rows(x);
+        int columns = ColumnSummation.columns(rows);
+        return (V[]) newInstanceofCommonArray(new RangeTask<>(0, rows.length, rows.length / (pool.getParallelism() * 4),
+                (from, to) -> new ColumnSummation(columns).add(rows, from, to), ColumnSummation::merge).invoke(pool).result());
+    }
+
+    /**
+     * @param x input of the column summation.
+     * @return true if it is a two-dimensional primitive array.
+     */
+    private static boolean isPrimitiveMatrix(Object x) {
+        return x instanceof int[][] || x instanceof long[][] || x instanceof double[][] || x instanceof float[][]
+                || x instanceof short[][] || x instanceof byte[][];
+    }
+
+    /**
+     * Column sums of primitive rows, short and byte columns are added in int.
+     * @param rows rows of a two-dimensional primitive array.
+     * @return primitive array of the column sums.
+     */
+    private static Object primitiveColumns(Object[] rows) {
+        if (rows instanceof int[][]) {
+            return SummationKernel.sumColumns((int[][]) rows);
+        } else if (rows instanceof long[][]) {
+            return SummationKernel.sumColumns((long[][]) rows);
+        } else if (rows instanceof double[][]) {
+            return SummationKernel.sumColumns((double[][]) rows);
+        } else if (rows instanceof float[][]) {
+            return SummationKernel.sumColumns((float[][]) rows);
+        } else if (rows instanceof short[][]) {
+            return SummationKernel.sumColumns((short[][]) rows);
+        } else {
+            return SummationKernel.sumColumns((byte[][]) rows);
+        }
+    }
+
+    /**
+     * Boxes the primitive column sums into an array of the boxed type of the elements.
+     * @param x two-dimensional primitive array.
+     * @param columnSums primitive column sums of the array.
+     * @return boxed column sums.
+     */
+    private static <V extends Number> V[] boxColumns(Object x, Object columnSums) {
+        if (x instanceof int[][]) {
+            int[] columns = (int[]) columnSums;
+            Integer[] sum = new Integer[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = columns[j];
+            }
+            return (V[]) sum;
+        } else if (x instanceof long[][]) {
+            long[] columns = (long[]) columnSums;
+            Long[] sum = new Long[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = columns[j];
+            }
+            return (V[]) sum;
+        } else if (x instanceof double[][]) {
+            double[] columns = (double[]) columnSums;
+            Double[] sum = new Double[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = columns[j];
+            }
+            return (V[]) sum;
+        } else if (x instanceof float[][]) {
+            float[] columns = (float[]) columnSums;
+            Float[] sum = new Float[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = columns[j];
+            }
+            return (V[]) sum;
+        } else if (x instanceof short[][]) {
+            int[] columns = (int[]) columnSums;
+            Short[] sum = new Short[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = (short) columns[j];
+            }
+            return (V[]) sum;
+        } else {
+            int[] columns = (int[]) columnSums;
+            Byte[] sum = new Byte[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                sum[j] = (byte) columns[j];
+            }
+            return (V[]) sum;
+        }
+    }
+
+    /**
+     * Copies the sums into an array of their common type.<br>
+     * @param sums sums to copy.
+     * @return array typed like the sums, or the original Number array if their types differ.
+     * @see Summation#parallelSummationArray(Object, ForkJoinPool)
+     */
+    private static Number[] newInstanceofCommonArray(Number[] sums) {
+        Number first = null;
+        for (Number sum : sums) {
+            if (first == null) {
+                first = sum;
+            } else if (sum != null && sum.getClass() != first.getClass()) {
+                return sums;
+            }
+        }
+        if (first == null) {
+            return sums;
+        }
+        Number[] array = newInstanceofCreateArray(first, sums.length);
+        System.arraycopy(sums, 0, array, 0, sums.length);
+        return array;
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable, then Collection returns it as a specified derived class.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>C extends Collection</i> Specified Collection type</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param classCollectionNameDotClass Must be specified to define the derived type of Collection.
+     * @return Returns values as specified Collection type.
+     */
+    public static <V extends Number, C extends Collection<Integer>, T> C summationCollection(T x, Class<? extends Collection> classCollectionNameDotClass) {
+        return (C) summationCollection(x, size -> newCollection(classCollectionNameDotClass, size));
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable, then returns them in the Collection created by the factory.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>C extends Collection</i> Specified Collection type</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param factory creates the empty Collection, for example {@code () -> new TreeSet<>()}.
+     * @return Returns values in the created Collection.
+     */
+    public static <V extends Number, C extends Collection<V>, T> C summationCollection(T x, Supplier<? extends C> factory) {
+        return summationCollection(x, (IntFunction<? extends C>) size -> factory.get());
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable, then returns them in the Collection created by the capacity-aware factory.<br>
+     * The factory receives the number of sums, so the Collection can be created pre-sized, for example {@code size -> new ArrayList<>(size)}.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>C extends Collection</i> Specified Collection type</p>
+     * <p><i>T preferred Number, Collection, Map</i> Can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param factory creates the empty Collection for the given number of sums.
+     * @return Returns values in the created Collection.
+     */
+    public static <V extends Number, C extends Collection<V>, T> C summationCollection(T x, IntFunction<? extends C> factory) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        C sums = factory.apply(groupCount(x));
+        reduceGroups(x, (i, sum) -> sums.add((V) sum));
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_COLLECTION, x, false);
+        return sums;
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns it stored as the specified Map class.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>M extends Map</i> Specific Map type.</p>
+     * <p><i>T preferred Number, Collection, Map</i> can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param classMapNameDotClass Required to specify the Map derived type.
+     * @return Map one of the specified derived classes returns two values.
+     */
+    public static <V extends Number, M extends Map<Integer, V>, T> M summationMap(T x, Class<? extends Map> classMapNameDotClass) {
+        return (M) summationMap(x, size -> (Map<Integer, V>) newMap(classMapNameDotClass, size));
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in the Map created by the factory, its key is an increasing sequence of numbers.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>M extends Map</i> Specific Map type.</p>
+     * <p><i>T preferred Number, Collection, Map</i> can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param factory creates the empty Map, for example {@code () -> new TreeMap<>()}.
+     * @return Returns values in the created Map.
+     */
+    public static <V extends Number, M extends Map<Integer, V>, T> M summationMap(T x, Supplier<? extends M> factory) {
+        return summationMap(x, (IntFunction<? extends M>) size -> factory.get());
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in the Map created by the capacity-aware factory, its key is an increasing sequence of numbers.<br>
+     * The factory receives the number of sums, so the Map can be created pre-sized, for example {@code size -> HashMap.newHashMap(size)}.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>M extends Map</i> Specific Map type.</p>
+     * <p><i>T preferred Number, Collection, Map</i> can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param factory creates the empty Map for the given number of sums.
+     * @return Returns values in the created Map.
+     */
+    public static <V extends Number, M extends Map<Integer, V>, T> M summationMap(T x, IntFunction<? extends M> factory) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        M sums = factory.apply(groupCount(x));
+        reduceGroups(x, (i, sum) -> sums.put(i, (V) sum));
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_MAP, x, false);
+        return sums;
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns it stored as the specified Map class.<br>
+     * <p><i>K preferred Number, Collection, Map</i> Given key can be of Number, Collection or Map type. </p>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>M extends Map</i> Specific Map type.</p>
+     * <p><i>T preferred Number, Collection, Map</i> can accept classes and interfaces derived from Number[], Collection, or classes and interfaces derived from Map.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param classMapNameDotClass Required to specify the Map derived type.
+     * @return Map is one of the specified derived classes and returns two values, the key of Map is filled in the specified way.
+     * If there is no or the key type or size is not suitable, then the default is to upload.
+     */
+    public static <K, V extends Number, M extends Map<?, V>, T> M summationMap(T x, Class<? extends Map> classMapNameDotClass, K keys) {
+        if (keys == null) {
+            return (M) summationMap(x, classMapNameDotClass);
+        }
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        int size = groupCount(x);
+        Map<Object, Number> sums = newMap(classMapNameDotClass, size);
+        if (keys instanceof Number[]) {
+            Object[] newKeys = (Object[]) keys;
+            getThrowQuestion(newKeys.length, size);
+            reduceGroups(x, (i, sum) -> sums.put(newKeys[i], sum));
+        } else if (keys instanceof Collection || keys instanceof Map) {
+            Collection<?> newKeys = keys instanceof Map ? ((Map<?, ?>) keys).keySet() : (Collection<?>) keys;
+            getThrowQuestion(newKeys.size(), size);
+            Iterator<?> key = newKeys.iterator();
+            reduceGroups(x, (i, sum) -> sums.put(key.next(), sum));
+        } else {
+            throw new IllegalArgumentException("Unsupported keys type! Supported type: Number, Collection, Map");
+        }
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_MAP, x, false);
+        return (M) sums;
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in a primitive map, its key is an increasing sequence of numbers.<br>
+     * The keys 0..n-1 are stored as a dense {@code long[]}, there is no Integer key, Long value or entry object per sum.
+     * A sum is converted like {@link SummationBuffer#ofLong(long[])}, a group without value gives zero.
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @return map of the sums, {@link IntToLongMap#asMap()} gives a {@code Map<Integer, Long>} view of it.
+     */
+    public static <T> IntToLongMap summationLongMap(T x) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        SummationBuffer<Long> sums = SummationBuffer.ofLong(new long[0]);
+        computeSumArray(x, sums);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_MAP, x, false);
+        return IntToLongMap.dense(sums.longArray(), sums.size());
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in a primitive map under the given keys.<br>
+     * The keys are stored in an open addressing table, if a key repeats the later sum replaces the earlier one.
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param keys key of each sum in the iteration order of x.
+     * @return map of the sums.
+     * @throws ArrayIndexOutOfBoundsException if there are fewer keys than sums.
+     */
+    public static <T> IntToLongMap summationLongMap(T x, int[] keys) {
+        IntToLongMap dense = summationLongMap(x);
+        getThrowQuestion(keys.length, dense.size());
+        IntToLongMap sums = new IntToLongMap(dense.size());
+        dense.forEach((i, sum) -> sums.put(keys[i], sum));
+        return sums;
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in a primitive map, its key is an increasing sequence of numbers.<br>
+     * The keys 0..n-1 are stored as a dense array, there is no Integer key, Double value or entry object per sum.
+     * A sum is converted like {@link SummationBuffer#ofDouble(double[])}, a group without value gives zero.
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @return map of the sums, {@link IntToDoubleMap#asMap()} gives a {@code Map<Integer, Double>} view of it.
+     */
+    public static <T> IntToDoubleMap summationDoubleMap(T x) {
+        SummationEvent event = SummationProbe.begin();
+        long start = SummationProbe.start();
+        SummationBuffer<Double> sums = SummationBuffer.ofDoubleBits(new long[0]);
+        computeSumArray(x, sums);
+        SummationProbe.end(event, start, SummationProbe.SUMMATION_MAP, x, false);
+        return IntToDoubleMap.dense(sums.longArray(), sums.size());
+    }
+
+    /**
+     * Calculates the sum of the values of the given variable and returns them in a primitive map under the given keys.<br>
+     * The keys are stored in an open addressing table, if a key repeats the later sum replaces the earlier one.
+     * <p><i>T preferred Number, Collection, Map</i> Can accept the same variables as {@link #summationArray(Object)}.</p>
+     * @param x Number, Collection or Map type variable that calculates the sum of its internal values.
+     * @param keys key of each sum in the iteration order of x.
+     * @return map of the sums.
+     * @throws ArrayIndexOutOfBoundsException if there are fewer keys than sums.
+     */
+    public static <T> IntToDoubleMap summationDoubleMap(T x, int[] keys) {
+        IntToDoubleMap dense = summationDoubleMap(x);
+        getThrowQuestion(keys.length, dense.size());
+        IntToDoubleMap sums = new IntToDoubleMap(dense.size());
+        dense.forEach((i, sum) -> sums.put(keys[i], sum));
+        return sums;
+    }
+
+    /**
+     * Counts the elements of the specified array.<br>
+     * The type of the first non-null element selects the accumulator, the values are added on primitives and only the result is boxed.
+     * If a wider element arrives, the sum is promoted to the widest type seen. Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values array whose sum of values you want.
+     * @return sum of values, null if there is no non-null element.
+     * @see Summation#summation(Object)
+     * @see Summation#groupSum(Object)
+     */
+    private static <V extends Number> V computeSum(V[] values) {
+        return computeSum(values, SummationMode.DEFAULT);
+    }
+
+    /**
+     * Counts the elements of the specified array in the selected mode.<br>
+     * The type of the first non-null element selects the accumulator of the mode, the values are added on primitives and only the result is boxed.
+     * If a wider element arrives, the sum is promoted to the widest type seen. Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values array whose sum of values you want.
+     * @param mode mode of the summation.
+     * @return sum of values, null if there is no non-null element.
+     * @see Summation#computeSum(Number[])
+     * @see Summation#summation(Object, SummationMode)
+     */
+    private static <V extends Number> V computeSum(V[] values, SummationMode mode) {
+        Accumulator accumulator = accumulate(values, 0, values.length, mode);
+        return accumulator == null ? null : (V) accumulator.result();
+    }
+
+    /**
+     * Adds the elements of a range of the array on the accumulator selected by the first non-null element.
+     * @param values array whose values you want to add.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @param mode mode of the summation.
+     * @return the accumulator holding the sum, null if there is no non-null element in the range.
+     * @see Summation#computeSum(Number[], SummationMode)
+     * @see Summation#parallelSummation(Object, ForkJoinPool)
+     */
+    private static Accumulator accumulate(Number[] values, int from, int to, SummationMode mode) {
+        int i = from;
+        while (i < to && values[i] == null) {
+            i++;
+        }
+        if (i == to) {
+            return null;
+        }
+        return computeSum(Accumulator.of(NumberType.of(values[i]), mode), values, i, to);
+    }
+
+    /**
+     * Counts the elements of the specified Collection.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values Collection whose sum of values you want.
+     * @return sum of values.
+     * @see Summation#summation(Object)
+     * @see Summation#groupSum(Object)
+     */
+    private static <V extends Number> V computeSum(Collection<V> values) {
+        return computeSum(values.iterator());
+    }
+
+    /**
+     * Counts the elements of the specified Map.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values Map whose sum of values you want.
+     * @return sum of values.
+     * @see Summation#summation(Object)
+     * @see Summation#groupSum(Object)
+     */
+    private static <V extends Number> V computeSum(Map<?, V> values) {
+        return computeSum(values.values().iterator());
+    }
+
+    /**
+     * Counts the elements of the specified iterator.<br>
+     * The type of the first non-null element selects the accumulator, the values are added on primitives and only the result is boxed.
+     * If a wider element arrives, the sum is promoted to the widest type seen. Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values iterator whose sum of values you want.
+     * @return sum of values, null if there is no non-null element.
+     * @see Summation#computeSum(Collection)
+     * @see Summation#computeSum(Map)
+     */
+    private static <V extends Number> V computeSum(Iterator<V> values) {
+        return computeSum(values, SummationMode.DEFAULT);
+    }
+
+    /**
+     * Counts the elements of the specified iterator in the selected mode.<br>
+     * The type of the first non-null element selects the accumulator of the mode, the values are added on primitives and only the result is boxed.
+     * If a wider element arrives, the sum is promoted to the widest type seen. Null elements are skipped.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param values iterator whose sum of values you want.
+     * @param mode mode of the summation.
+     * @return sum of values, null if there is no non-null element.
+     * @see Summation#computeSum(Iterator)
+     * @see Summation#summation(Object, SummationMode)
+     */
+    private static <V extends Number> V computeSum(Iterator<V> values, SummationMode mode) {
+        Accumulator accumulator = accumulate(values, mode);
+        return accumulator == null ? null : (V) accumulator.result();
+    }
+
+    /**
+     * Adds the elements of the iterator on the accumulator selected by the first non-null element.
+     * @param values iterator whose values you want to add.
+     * @param mode mode of the summation.
+     * @return the accumulator holding the sum, null if there is no non-null element.
+     * @see Summation#computeSum(Iterator, SummationMode)
+     * @see Summation#parallelSummation(Object, ForkJoinPool)
+     */
+    private static Accumulator accumulate(Iterator<? extends Number> values, SummationMode mode) {
+        Number first = null;
+        while (first == null && values.hasNext()) {
+            first = values.next();
+        }
+        if (first == null) {
+            return null;
+        }
+        Accumulator accumulator = Accumulator.of(NumberType.of(first), mode);
+        accumulator.accumulate(first);
+        return computeSum(accumulator, values);
+    }
+
+    /**
+     * Calculates the exact sum of the values of the variable.<br>
+     * Integral values are added in a 128-bit accumulator and give a BigInteger,
+     * a floating point or BigDecimal value promotes the sum to an exact BigDecimal.
+     * @param x Number, Collection, Map or primitive array type variable.
+     * @return exact sum, zero if there is no value.
+     * @see Summation#summation(Object, SummationMode)
+     */
+    private static <T> Number computeExactSum(T x) {
+        if (x instanceof Number[]) {
+            return computeSum(Accumulator.of(NumberType.BIG_INTEGER), (Number[]) x, 0, ((Number[]) x).length).result();
+        } else if (x instanceof Collection) {
+            return computeSum(Accumulator.of(NumberType.BIG_INTEGER), ((Collection<? extends Number>) x).iterator()).result();
+        } else if (x instanceof Map) {
+            return computeSum(Accumulator.of(NumberType.BIG_INTEGER), ((Map<?, ? extends Number>) x).values().iterator()).result();
+        } else if (x instanceof long[]) {
+            return Int128.sum((long[]) x).toBigInteger();
+        } else if (x instanceof int[]) {
+            long sum = 0;
+            for (int element : (int[]) x) {
+                sum += element;
+            }
+            return BigInteger.valueOf(sum);
+        } else if (x instanceof short[]) {
+            long sum = 0;
+            for (short element : (short[]) x) {
+                sum += element;
+            }
+            return BigInteger.valueOf(sum);
+        } else if (x instanceof byte[]) {
+            long sum = 0;
+            for (byte element : (byte[]) x) {
+                sum += element;
+            }
+            return BigInteger.valueOf(sum);
+        } else if (x instanceof double[]) {
+            Accumulator accumulator = Accumulator.of(NumberType.BIG_DECIMAL);
+            for (double element : (double[]) x) {
+                accumulator.accumulate(element);
+            }
+            return accumulator.result();
+        } else if (x instanceof float[]) {
+            Accumulator accumulator = Accumulator.of(NumberType.BIG_DECIMAL);
+            for (float element : (float[]) x) {
+                accumulator.accumulate(element);
+            }
+            return accumulator.result();
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map, int[], long[], double[], float[], short[], byte[]");
+        }
+    }
+
+    /**
+     * Calculates the sum of the values of the variable with compensated or pairwise addition of the float and double values.
+     * @param x Number, Collection, Map or primitive array type variable.
+     * @param mode {@code COMPENSATED} or {@code PAIRWISE}.
+     * @return sum of values, its type is the type of the widest value.
+     * @see Summation#summation(Object, SummationMode)
+     */
+    private static <V extends Number, T> V computeFloatingSum(T x, SummationMode mode) {
+        if (x instanceof Number[]) {
+            return computeSum((V[]) x, mode);
+        } else if (x instanceof Collection) {
+            return computeSum(((Collection<V>) x).iterator(), mode);
+        } else if (x instanceof Map) {
+            return computeSum(((Map<?, V>) x).values().iterator(), mode);
+        } else if (x instanceof double[]) {
+            double[] values = (double[]) x;
+            if (mode == SummationMode.COMPENSATED) {
+                return (V) Double.valueOf(Accumulator.Compensated.sum(values));
+            } else {
+                return (V) Double.valueOf(Accumulator.Pairwise.sum(values, 0, values.length));
+            }
+        } else if (x instanceof float[]) {
+            float[] values = (float[]) x;
+            if (mode == SummationMode.COMPENSATED) {
+                return (V) Float.valueOf(Accumulator.Compensated.sum(values));
+            } else {
+                return (V) Float.valueOf((float) Accumulator.Pairwise.sum(values, 0, values.length));
+            }
+        } else {
+            return computeSumOf(x);
+        }
+    }
+
+    /**
+     * Adds a range of the elements of the array to the accumulator, promoting it when a wider element arrives.
+     * @param accumulator accumulator to start with.
+     * @param values array whose values you want to add.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return the accumulator holding the sum, it is a new instance if it was promoted.
+     * @see Summation#accumulate(Number[], int, int, SummationMode)
+     * @see Summation#summation(Object, MathContext)
+     */
+    private static Accumulator computeSum(Accumulator accumulator, Number[] values, int from, int to) {
+        int i = from;
+        while ((i = accumulator.addAll(values, i, to)) < to) {
+            accumulator = accumulator.widen(NumberType.of(values[i]));
+        }
+        return accumulator;
+    }
+
+    /**
+     * Adds the elements of the iterator to the accumulator, promoting it when a wider element arrives.
+     * @param accumulator accumulator to start with.
+     * @param values iterator whose values you want to add.
+     * @return the accumulator holding the sum, it is a new instance if it was promoted.
+     * @see Summation#computeSum(Iterator)
+     * @see Summation#summation(Object, MathContext)
+     */
+    private static Accumulator computeSum(Accumulator accumulator, Iterator<? extends Number> values) {
+        Number wider;
+        while ((wider = accumulator.addAll(values)) != null) {
+            accumulator = accumulator.widen(NumberType.of(wider));
+            accumulator.accumulate(wider);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Counts the elements of a range of the specified int array with the vector kernel if it is available, nothing is boxed.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static int computeSum(int[] values, int from, int to) {
+        return SummationKernel.sum(values, from, to);
+    }
+
+    /**
+     * Counts the elements of a range of the specified long array with the vector kernel if it is available, nothing is boxed.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static long computeSum(long[] values, int from, int to) {
+        return SummationKernel.sum(values, from, to);
+    }
+
+    /**
+     * Counts the elements of a range of the specified double array with a primitive accumulator, nothing is boxed.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static double computeSum(double[] values, int from, int to) {
+        return SummationKernel.sum(values, from, to);
+    }
+
+    /**
+     * Counts the elements of a range of the specified float array with a primitive accumulator, nothing is boxed.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static float computeSum(float[] values, int from, int to) {
+        return SummationKernel.sum(values, from, to);
+    }
+
+    /**
+     * Counts the elements of a range of the specified short array with a primitive accumulator, nothing is boxed. The values are added in an int accumulator, the result is narrowed to short like the boxed Short addition.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static short computeSum(short[] values, int from, int to) {
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return (short) sum;
+    }
+
+    /**
+     * Counts the elements of a range of the specified byte array with a primitive accumulator, nothing is boxed. The values are added in an int accumulator, the result is narrowed to byte like the boxed Byte addition.
+     * @param values array whose sum of values you want.
+     * @param from index of the first element, inclusive.
+     * @param to index of the last element, exclusive.
+     * @return sum of values, 0 if the range is empty.
+     * @see Summation#summation(Object)
+     */
+    private static byte computeSum(byte[] values, int from, int to) {
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return (byte) sum;
+    }
+
+    /**
+     * Determines the type of the variables and adds the two values accordingly.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param a first value.
+     * @param b second value.
+     * @return returns the sum of two values of the specified type.
+     * @see Summation#summation(Number, Number)
+     */
+    private static <V extends Number> V newInstanceofNumber(V a, V b) {
+        if (b instanceof BigDecimal) {
+            return (V) NumberType.toBigDecimal(a).add((BigDecimal) b);
+        } else if (b instanceof BigInteger) {
+            return (V) NumberType.toBigInteger(a).add((BigInteger) b);
+        } else if (b instanceof Double) {
+            return (V) Double.valueOf(a.doubleValue() + b.doubleValue());
+        } else if (b instanceof Float) {
+            return (V) Float.valueOf(a.floatValue() + b.floatValue());
+        } else if (b instanceof Long) {
+            return (V) Long.valueOf(a.longValue() + b.longValue());
+        } else if (b instanceof Integer) {
+            return (V) Integer.valueOf(a.intValue() + b.intValue());
+        } else if (b instanceof Short) {
+            return (V) Short.valueOf((short) (a.shortValue() + b.shortValue()));
+        } else {
+            return (V) Byte.valueOf((byte) (a.byteValue() + b.byteValue()));
+        }
+    }
+
+    /**
+     * Creates an array of type and size.<br>
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param value Based on this variable, it decides what type of array should be created.
+     * @param size By entering a value, you can control the size of the array it creates.
+     * @return returns prepared array as value.
+     */
+    private static <V extends Number> V[] newInstanceofCreateArray(V value, int size) {
+        if (value instanceof BigDecimal) {
+            return (V[]) new BigDecimal[size];
+        } else if (value instanceof BigInteger) {
+            return (V[]) new BigInteger[size];
+        } else if (value instanceof Double) {
+            return (V[]) new Double[size];
+        } else if (value instanceof Float) {
+            return (V[]) new Float[size];
+        } else if (value instanceof Long) {
+            return (V[]) new Long[size];
+        } else if (value instanceof Integer) {
+            return (V[]) new Integer[size];
+        } else if (value instanceof Short) {
+            return (V[]) new Short[size];
+        } else if (value instanceof Byte) {
+            return (V[]) new Byte[size];
+        } else {
+            return (V[]) new Number[size];
+        }
+    }
+
+    /**
+     * Creating a new Collection derived class.<br>
+     * The constructor is looked up once per class, the instance is created pre-sized if the class has a known capacity constructor.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>C extends Collection</i> Specified Collection type</p>
+     * @param classCollectionNameDotClass Required to define the type derived from the Collection class.
+     * @param size number of values that will be added.
+     * @return A new descendant Collection is created as the specified Collection class.
+     * @see ContainerFactory#newInstance(Class, int)
+     */
+    private static <V extends Number, C extends Collection<V>> C newCollection(Class<C> classCollectionNameDotClass, int size) {
+        return ContainerFactory.newInstance(classCollectionNameDotClass, size);
+    }
+
+    /**
+     * Creating a new Map derived class.<br>
+     * The constructor is looked up once per class, the instance is created pre-sized if the class has a known capacity constructor.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>M extends Map</i> Specified Map type</p>
+     * @param classMapNameDotClass Required to define the type derived from the Map class.
+     * @param size number of entries that will be put.
+     * @return A new descendant Map is created as the specified Map class.
+     * @see ContainerFactory#newInstance(Class, int)
+     */
+    private static <V extends Number, M extends Map<?, V>> M newMap(Class<M> classMapNameDotClass, int size) {
+        return ContainerFactory.newInstance(classMapNameDotClass, size);
+    }
+
+    /**
+     * Counts the inner values of the given variable without walking them, and checks that it can be reduced.<br>
+     * @param x Number[][], Collection[], Map[], Collection or Map whose inner values are added one by one.
+     * @return number of inner values, one sum is produced for each of them.
+     * @throws IllegalArgumentException if the type is not supported or the Collection or Map is empty.
+     * @see Summation#reduceGroups(Object, GroupSink)
+     */
+    private static int groupCount(Object x) {
+        if (x instanceof Number[][] || x instanceof Collection[] || x instanceof Map[]) {
+            return ((Object[]) x).length;
+        } else if (x instanceof Collection) {
+            if (((Collection<?>) x).isEmpty()) {
+                throw new IllegalArgumentException("Collection cannot be empty");
+            }
+            return ((Collection<?>) x).size();
+        } else if (x instanceof Map) {
+            if (((Map<?, ?>) x).isEmpty()) {
+                throw new IllegalArgumentException("Map cannot be empty");
+            }
+            return ((Map<?, ?>) x).size();
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number, Collection, Map");
+        }
+    }
+
+    /**
+     * Single-pass reduction: walks the inner values of the given variable once and hands every sum to the destination as soon as it is computed.<br>
+     * The inner values can be Number[], Collection or Map, each of them is added like {@link #summation(Object)}.
+     * @param x Number[][], Collection[], Map[], Collection or Map checked by {@link #groupCount(Object)}.
+     * @param sink destination of the sums, it receives them in the iteration order of x.
+     * @throws IllegalArgumentException if an inner value is not Number[], Collection or Map.
+     */
+    private static void reduceGroups(Object x, GroupSink sink) {
+        int i = 0;
+        if (x instanceof Object[]) {
+            for (Object group : (Object[]) x) {
+                sink.accept(i++, groupSum(group));
+            }
+        } else {
+            Collection<?> groups = x instanceof Map ? ((Map<?, ?>) x).values() : (Collection<?>) x;
+            for (Object group : groups) {
+                sink.accept(i++, groupSum(group));
+            }
+        }
+    }
+
+    /**
+     * @param group inner value of a reduced variable.
+     * @return sum of the inner value, null if it has no non-null element.
+     * @see Summation#reduceGroups(Object, GroupSink)
+     */
+    private static Number groupSum(Object group) {
+        if (group instanceof Number[]) {
+            return computeSum((Number[]) group);
+        } else if (group instanceof Collection) {
+            return computeSum((Collection<Number>) group);
+        } else if (group instanceof Map) {
+            return computeSum((Map<?, Number>) group);
+        } else {
+            throw new IllegalArgumentException("Unsupported inner type! Supported type: Number[], Collection, Map");
+        }
+    }
+
+    /**
+     * Destination of a single-pass reduction.
+     * @see Summation#reduceGroups(Object, GroupSink)
+     */
+    @FunctionalInterface
+    private interface GroupSink {
+
+        /**
+         * @param index position of the inner value in the iteration order.
+         * @param sum sum of the inner value.
+         */
+        void accept(int index, Number sum);
+    }
+
+    /**
+     * Array destination of a single-pass reduction, it is created with the type of the first sum and stores every sum at its position.<br>
+     * If a later sum does not fit the type, the array is copied once into a Number array.
+     */
+    private static final class GroupArray implements GroupSink {
+
+        private final int size;
+        private Number[] array;
+
+        GroupArray(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void accept(int index, Number sum) {
+            if (sum == null) {
+                return;
+            }
+            if (array == null) {
+                array = newInstanceofCreateArray(sum, size);
+            } else if (!array.getClass().getComponentType().isInstance(sum)) {
+                array = Arrays.copyOf(array, size, Number[].class);
+            }
+            array[index] = sum;
+        }
+
+        /**
+         * @return the sums, a Number array of nulls if there was no sum.
+         */
+        Number[] array() {
+            return array == null ? new Number[size] : array;
+        }
+    }
+
+    /**
+     * Checks that the size of the selected key is correct.<br>
+     * @param keySize Preferred key size.
+     * @param targetSize The size of the variable whose internal values will be counted.
+     * @throws ArrayIndexOutOfBoundsException Key array size {@code keySize} is less than x array size {@code targetSize}
+     * @see Summation#summationMap(Object, Class, Object)
+     */
+    private static void getThrowQuestion(int keySize, int targetSize) {
+        if (keySize < targetSize) {
+            throw new ArrayIndexOutOfBoundsException("Key array size "+keySize+" is less than x array size "+targetSize);
+        }
+    }
+
+    /**
+     * Creates an array with one Integer slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Integer[] summationArray1(int[][] x) {
+        Integer[] sum = new Integer[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array with one Long slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Long[] summationArray2(long[][] x) {
+        Long[] sum = new Long[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array with one Double slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Double[] summationArray3(double[][] x) {
+        Double[] sum = new Double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array with one Float slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Float[] summationArray4(float[][] x) {
+        Float[] sum = new Float[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array with one Short slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Short[] summationArray5(short[][] x) {
+        Short[] sum = new Short[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array with one Byte slot per row and fills it with the primitive sum of the row.<br>
+     * @param x variable that serves the values.
+     * @return Value loaded according to type.
+     * @see Summation#summationArray(Object)
+     */
+    private static Byte[] summationArray6(byte[][] x) {
+        Byte[] sum = new Byte[x.length];
+        for (int i = 0; i < x.length; i++) {
+            sum[i] = computeSum(x[i], 0, x[i].length);
+        }
+        return sum;
+    }
+
+}
\ No newline at end of file
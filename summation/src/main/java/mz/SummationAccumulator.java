@@ -0,0 +1,198 @@
+package mz;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * Running sum that can be updated value by value, so a growing set of values is not added again from the beginning.<br>
+ * Every update costs O(1) per value, the sum is kept on a primitive accumulator of the widest type seen so far,
+ * with the same type promotion as {@link Summation#summation(Object)}. The result is only boxed when it is asked for.
+ * Null values are skipped. The accumulator is not thread-safe.
+ * An {@code EXACT} sum is a BigInteger or BigDecimal whatever V is, it is read with {@link #exactResult()} or {@link #exactIntegerResult()}.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class SummationAccumulator<V extends Number> {
+
+    private final SummationMode mode;
+
+    /**
+     * Accumulator of the widest type seen so far, null until the first value.
+     */
+    private Accumulator accumulator;
+
+    /**
+     * Creates an empty accumulator that adds like {@link Summation#summation(Object)}.
+     */
+    public SummationAccumulator() {
+        this(SummationMode.DEFAULT);
+    }
+
+    /**
+     * Creates an empty accumulator that adds like {@link Summation#summation(Object, SummationMode)}.
+     * @param mode how the values are added.
+     */
+    public SummationAccumulator(SummationMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Adds a value.
+     * @param value value to add, null is skipped.
+     * @return this accumulator.
+     */
+    public SummationAccumulator<V> add(V value) {
+        if (value != null) {
+            if (!start(value).add(value)) {
+                accumulator = accumulator.widen(NumberType.of(value));
+                accumulator.accumulate(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the values of an array.
+     * @param values values to add, null elements are skipped.
+     * @return this accumulator.
+     */
+    public SummationAccumulator<V> addAll(V[] values) {
+        int i = 0;
+        while (i < values.length && values[i] == null) {
+            i++;
+        }
+        if (i < values.length) {
+            start(values[i]);
+            while ((i = accumulator.addAll(values, i, values.length)) < values.length) {
+                accumulator = accumulator.widen(NumberType.of(values[i]));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the values of a Collection.
+     * @param values values to add, null elements are skipped.
+     * @return this accumulator.
+     */
+    public SummationAccumulator<V> addAll(Collection<? extends V> values) {
+        for (V value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Removes a value that was added earlier, the sum will be the same as if the value had never been added.<br>
+     * Integral (byte, short, int, long, BigInteger) and BigDecimal sums can remove values exactly,
+     * the rounding of a float or double addition cannot be undone.
+     * @param value value to remove, null is skipped.
+     * @return this accumulator.
+     * @throws UnsupportedOperationException if the sum is or would become a float or double sum, the accumulator is not changed.
+     */
+    public SummationAccumulator<V> remove(V value) {
+        if (value != null) {
+            NumberType type = NumberType.of(value);
+            NumberType sumType = accumulator == null ? startType(type) : accumulator.type.widen(type);
+            if (sumType == NumberType.FLOAT || sumType == NumberType.DOUBLE) {
+                throw new UnsupportedOperationException("A " + sumType + " sum cannot subtract exactly");
+            }
+            start(value);
+            if (sumType != accumulator.type) {
+                accumulator = accumulator.widen(type);
+            }
+            accumulator.subtract(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the sum of another accumulator, the other accumulator is not changed.
+     * @param other accumulator whose sum you want to add.
+     * @return this accumulator.
+     */
+    public SummationAccumulator<V> merge(SummationAccumulator<? extends V> other) {
+        if (other.accumulator != null) {
+            start(other.accumulator.result());
+            accumulator = accumulator.merge(other.accumulator);
+        }
+        return this;
+    }
+
+    /**
+     * Empties the accumulator, the next value decides the type again.
+     */
+    public void reset() {
+        accumulator = null;
+    }
+
+    /**
+     * @return true if no value was added since the creation or the last reset.
+     */
+    public boolean isEmpty() {
+        return accumulator == null;
+    }
+
+    /**
+     * @return the sum of the values with the type of the widest value, null if no value was added.
+     * @throws IllegalStateException if the accumulator adds in {@code EXACT} mode.
+     */
+    public V result() {
+        if (mode == SummationMode.EXACT) {
+            throw new IllegalStateException("An EXACT sum is a BigInteger or BigDecimal, read it with exactResult() or exactIntegerResult()");
+        }
+        return accumulator == null ? null : (V) accumulator.result();
+    }
+
+    /**
+     * @return the exact sum of the values, null if no value was added.
+     * @throws IllegalStateException if the accumulator does not add in {@code EXACT} mode.
+     */
+    public BigDecimal exactResult() {
+        Number sum = exactSum();
+        return sum instanceof BigInteger ? new BigDecimal((BigInteger) sum) : (BigDecimal) sum;
+    }
+
+    /**
+     * @return the exact sum of integral values, null if no value was added.
+     * @throws IllegalStateException if the accumulator does not add in {@code EXACT} mode.
+     * @throws ArithmeticException if the sum has a nonzero fractional part.
+     */
+    public BigInteger exactIntegerResult() {
+        Number sum = exactSum();
+        return sum instanceof BigDecimal ? ((BigDecimal) sum).toBigIntegerExact() : (BigInteger) sum;
+    }
+
+    /**
+     * @return BigInteger sum of integral values, BigDecimal sum if a floating point or BigDecimal value was added, null if no value was added.
+     */
+    private Number exactSum() {
+        if (mode != SummationMode.EXACT) {
+            throw new IllegalStateException("A " + mode + " sum is read with result()");
+        }
+        return accumulator == null ? null : accumulator.result();
+    }
+
+    /**
+     * Creates the accumulator for the type of the first value, {@code EXACT} starts with a BigInteger sum.
+     * @param value first value.
+     * @return the accumulator.
+     */
+    private Accumulator start(Number value) {
+        if (accumulator == null) {
+            accumulator = Accumulator.of(startType(NumberType.of(value)), mode);
+        }
+        return accumulator;
+    }
+
+    /**
+     * @param type type of the first value.
+     * @return type of the first accumulator.
+     */
+    private NumberType startType(NumberType type) {
+        return mode == SummationMode.EXACT ? type.widen(NumberType.BIG_INTEGER) : type;
+    }
+}
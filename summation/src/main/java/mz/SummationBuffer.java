@@ -0,0 +1,178 @@
+package mz;
+
+import java.lang.reflect.Array;
+
+/**
+ * Caller-owned destination of {@link Summation#summationArray(Object, SummationBuffer)}, it is reused from call to call.<br>
+ * The buffer wraps a primitive {@code long[]}, a primitive {@code double[]} or a {@code V[]} array.
+ * A call overwrites the first {@link #size()} slots in place, the array is replaced by a larger one only if it is too small,
+ * so calls on inputs of similar shape do not allocate a result array.
+ * A primitive slot holds the sum of {@link Summation#summationArray(Object)} converted to long or double, a group without value gives zero.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class SummationBuffer<V extends Number> {
+
+    private long[] longs;
+    private double[] doubles;
+    private V[] values;
+
+    /**
+     * True if the long array holds double sums as their raw long bits.
+     */
+    private final boolean doubleBits;
+
+    /**
+     * Number of slots written by the last call.
+     */
+    private int size;
+
+    private SummationBuffer(long[] longs, double[] doubles, V[] values) {
+        this(longs, doubles, values, false);
+    }
+
+    private SummationBuffer(long[] longs, double[] doubles, V[] values, boolean doubleBits) {
+        this.longs = longs;
+        this.doubles = doubles;
+        this.values = values;
+        this.doubleBits = doubleBits;
+    }
+
+    /**
+     * Creates a buffer of long sums.
+     * @param array initial array, it is filled in place while it is large enough.
+     * @return buffer over the array.
+     */
+    public static SummationBuffer<Long> ofLong(long[] array) {
+        return new SummationBuffer<>(array, null, null);
+    }
+
+    /**
+     * Creates a buffer of double sums.
+     * @param array initial array, it is filled in place while it is large enough.
+     * @return buffer over the array.
+     */
+    public static SummationBuffer<Double> ofDouble(double[] array) {
+        return new SummationBuffer<>(null, array, null);
+    }
+
+    /**
+     * Creates a buffer of double sums kept as their raw long bits, the layout of {@link IntToDoubleMap}.
+     * @param bits initial array, it is filled in place while it is large enough.
+     * @return buffer over the array, {@link #longArray()} gives the bits.
+     */
+    static SummationBuffer<Double> ofDoubleBits(long[] bits) {
+        return new SummationBuffer<>(bits, null, null, true);
+    }
+
+    /**
+     * Creates a buffer of boxed sums.<br>
+     * The sums must fit the component type of the array, a larger array is created with the same component type.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * @param array initial array, it is filled in place while it is large enough.
+     * @return buffer over the array.
+     */
+    public static <V extends Number> SummationBuffer<V> of(V[] array) {
+        return new SummationBuffer<>(null, null, array);
+    }
+
+    /**
+     * @return number of slots written by the last call.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the current long array, null if the buffer holds another kind of sums.
+     */
+    public long[] longArray() {
+        return longs;
+    }
+
+    /**
+     * @return the current double array, null if the buffer holds another kind of sums.
+     */
+    public double[] doubleArray() {
+        return doubles;
+    }
+
+    /**
+     * @return the current boxed array, null if the buffer holds another kind of sums.
+     */
+    public V[] array() {
+        return values;
+    }
+
+    /**
+     * @return true if the buffer holds boxed sums.
+     */
+    boolean isBoxed() {
+        return values != null;
+    }
+
+    /**
+     * Makes room for the sums of a call, the array grows by at least half of its length.
+     * @param size number of sums of the call.
+     */
+    void prepare(int size) {
+        int capacity = longs != null ? longs.length : doubles != null ? doubles.length : values.length;
+        if (capacity < size) {
+            int grown = Math.max(size, capacity + (capacity >> 1));
+            if (longs != null) {
+                longs = new long[grown];
+            } else if (doubles != null) {
+                doubles = new double[grown];
+            } else {
+                values = (V[]) Array.newInstance(values.getClass().getComponentType(), grown);
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * @param index slot of the sum.
+     * @param sum integral sum of a group.
+     */
+    void put(int index, long sum) {
+        if (doubleBits) {
+            longs[index] = Double.doubleToRawLongBits(sum);
+        } else if (longs != null) {
+            longs[index] = sum;
+        } else {
+            doubles[index] = sum;
+        }
+    }
+
+    /**
+     * @param index slot of the sum.
+     * @param sum floating point sum of a group.
+     */
+    void put(int index, double sum) {
+        if (doubleBits) {
+            longs[index] = Double.doubleToRawLongBits(sum);
+        } else if (doubles != null) {
+            doubles[index] = sum;
+        } else {
+            longs[index] = (long) sum;
+        }
+    }
+
+    /**
+     * @param index slot of the sum.
+     * @param sum boxed sum of a group, null if the group has no value.
+     */
+    void put(int index, Number sum) {
+        if (values != null) {
+            values[index] = (V) sum;
+        } else if (doubleBits) {
+            longs[index] = Double.doubleToRawLongBits(sum == null ? 0 : sum.doubleValue());
+        } else if (longs != null) {
+            longs[index] = sum == null ? 0 : sum.longValue();
+        } else {
+            doubles[index] = sum == null ? 0 : sum.doubleValue();
+        }
+    }
+}
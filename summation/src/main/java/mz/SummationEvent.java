@@ -0,0 +1,104 @@
+package mz;
+
+import java.util.Set;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingControl;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event of a {@link Summation} call, the duration is the time of the call.<br>
+ * The event is off by default, a recording turns it on with {@code jdk.jfr.Recording#enable(Class)} or with the setting {@code mz.SummationEvent#enabled=true}.
+ * A call is recorded only if it lasts at least the threshold, 1 ms by default, and adds at least {@code minElements} values, 0 by default.
+ * A grouped call (summationArray, summationCollection, summationMap, summationColumns) counts the inner values of its groups.
+ * While no recording is on, the event is not filled and not committed, so a call costs a disabled check.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@Name("mz.SummationEvent")
+@Label("Summation")
+@Category("Summation")
+@Description("A call of a Summation entry point")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class SummationEvent extends Event {
+
+    @Label("Entry Point")
+    @Description("Summation method that was called: summation, summationArray, summationCollection, summationMap or summationColumns")
+    String entryPoint;
+
+    @Label("Shape")
+    @Description("Kind of the input with its nesting, for example array, Collection or Collection<array>")
+    String shape;
+
+    @Label("Element Type")
+    @Description("Type of the values added, the class of the first value of a Collection or Map")
+    String elementType;
+
+    @Label("Element Count")
+    @Description("Number of values added, the inner values of a grouped input, -1 if the input is a stream, a buffer or a file")
+    long elementCount;
+
+    @Label("Strategy")
+    @Description("How the values were added: vector, scalar or parallel")
+    String strategy;
+
+    SummationEvent() {}
+
+    /**
+     * Drops the calls that add fewer values than the {@code minElements} setting.
+     * @param setting current value of the setting.
+     * @return true if the call adds enough values to be recorded.
+     */
+    @SettingDefinition
+    @Name("minElements")
+    @Label("Minimum Elements")
+    @Description("Record only calls that add at least this many values")
+    protected boolean minElements(ElementCountSetting setting) {
+        return elementCount < 0 || elementCount >= setting.minimum;
+    }
+
+    /**
+     * Value of the {@code minElements} setting, several recordings get the smallest of their values.
+     */
+    public static final class ElementCountSetting extends SettingControl {
+
+        private String value = "0";
+        private long minimum;
+
+        @Override
+        public String combine(Set<String> values) {
+            long min = Long.MAX_VALUE;
+            for (String v : values) {
+                min = Math.min(min, parse(v));
+            }
+            return values.isEmpty() ? "0" : String.valueOf(min);
+        }
+
+        @Override
+        public void setValue(String value) {
+            this.value = value;
+            this.minimum = parse(value);
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        private static long parse(String value) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package mz;
+
+import java.lang.reflect.Array;
+
+/**
+ * Inner loops of the primitive summation.<br>
+ * When the {@code jdk.incubator.vector} module is in the boot layer (started with {@code --add-modules jdk.incubator.vector}),
+ * int and long arrays are added by {@link VectorKernel} several lanes per instruction, otherwise by the scalar loops of this class.
+ * Integer addition gives the same result in any order, so the two paths are interchangeable.
+ * Float and double values are added in index order by {@link #sum(double[], int, int)}, the same as the boxed summation,
+ * only the {@code sumUnordered} methods may regroup them.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class SummationKernel {
+
+    /**
+     * Under this length the scalar loop is faster than loading a vector.
+     */
+    static final int VECTOR_THRESHOLD = 64;
+
+    /**
+     * True if the vector kernel can be used, the system property {@code mz.summation.vector=false} turns it off.
+     */
+    static final boolean VECTORIZED = vectorized();
+
+    /**
+     * Cannot be instantiated!
+     */
+    private SummationKernel(){}
+
+    /**
+     * Decides once whether the vector module is available.
+     * @return true if {@link VectorKernel} is loadable.
+     */
+    private static boolean vectorized() {
+        if (!Boolean.parseBoolean(System.getProperty("mz.summation.vector", "true"))) {
+            return false;
+        }
+        try {
+            return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && VectorKernel.lanes() > 1;
+        } catch (LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sum of a range of an int array, overflow wraps around like the boxed addition.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static int sum(int[] values, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernel.sum(values, from, to);
+        }
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of a range of a long array, overflow wraps around like the boxed addition.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static long sum(long[] values, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernel.sum(values, from, to);
+        }
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of a range of a double array in index order, bit for bit the same as the boxed summation.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static double sum(double[] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of a range of a float array in index order, bit for bit the same as the boxed summation.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static float sum(float[] values, int from, int to) {
+        float sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of a range of a double array, the values may be added lane by lane, so the last bits can differ from {@link #sum(double[], int, int)}.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static double sumUnordered(double[] values, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernel.sum(values, from, to);
+        }
+        return sum(values, from, to);
+    }
+
+    /**
+     * Sum of a range of a float array, the values may be added lane by lane, so the last bits can differ from {@link #sum(float[], int, int)}.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static float sumUnordered(float[] values, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernel.sum(values, from, to);
+        }
+        return sum(values, from, to);
+    }
+
+    /**
+     * Column sums of an int matrix, ragged rows add only to their own columns.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static int[] sumColumns(int[][] rows) {
+        int[] columns = new int[maxLength(rows)];
+        for (int[] row : rows) {
+            if (VECTORIZED && row.length >= VECTOR_THRESHOLD) {
+                VectorKernel.sumColumns(row, columns);
+            } else {
+                for (int j = 0; j < row.length; j++) {
+                    columns[j] += row[j];
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Column sums of a long matrix, ragged rows add only to their own columns.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static long[] sumColumns(long[][] rows) {
+        long[] columns = new long[maxLength(rows)];
+        for (long[] row : rows) {
+            if (VECTORIZED && row.length >= VECTOR_THRESHOLD) {
+                VectorKernel.sumColumns(row, columns);
+            } else {
+                for (int j = 0; j < row.length; j++) {
+                    columns[j] += row[j];
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Column sums of a double matrix, ragged rows add only to their own columns.<br>
+     * Every column is added from the first row to the last one, so the vector path gives the same bits as the scalar loop.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static double[] sumColumns(double[][] rows) {
+        double[] columns = new double[maxLength(rows)];
+        for (double[] row : rows) {
+            if (VECTORIZED && row.length >= VECTOR_THRESHOLD) {
+                VectorKernel.sumColumns(row, columns);
+            } else {
+                for (int j = 0; j < row.length; j++) {
+                    columns[j] += row[j];
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Column sums of a float matrix, ragged rows add only to their own columns.<br>
+     * Every column is added from the first row to the last one, so the vector path gives the same bits as the scalar loop.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static float[] sumColumns(float[][] rows) {
+        float[] columns = new float[maxLength(rows)];
+        for (float[] row : rows) {
+            if (VECTORIZED && row.length >= VECTOR_THRESHOLD) {
+                VectorKernel.sumColumns(row, columns);
+            } else {
+                for (int j = 0; j < row.length; j++) {
+                    columns[j] += row[j];
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Column sums of a short matrix in int, the caller narrows them.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static int[] sumColumns(short[][] rows) {
+        int[] columns = new int[maxLength(rows)];
+        for (short[] row : rows) {
+            for (int j = 0; j < row.length; j++) {
+                columns[j] += row[j];
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Column sums of a byte matrix in int, the caller narrows them.
+     * @param rows rows of the matrix, cannot be null.
+     * @return one sum per column, as long as the longest row.
+     */
+    static int[] sumColumns(byte[][] rows) {
+        int[] columns = new int[maxLength(rows)];
+        for (byte[] row : rows) {
+            for (int j = 0; j < row.length; j++) {
+                columns[j] += row[j];
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Adds two primitive column vectors of the same type, the shorter one is added into the longer one.
+     * @param a int[], long[], double[] or float[] column sums.
+     * @param b column sums of the same type.
+     * @return the longer vector holding both sums.
+     */
+    static Object addColumns(Object a, Object b) {
+        if (Array.getLength(a) < Array.getLength(b)) {
+            Object swap = a;
+            a = b;
+            b = swap;
+        }
+        if (a instanceof int[]) {
+            int[] sum = (int[]) a;
+            int[] other = (int[]) b;
+            for (int j = 0; j < other.length; j++) {
+                sum[j] += other[j];
+            }
+        } else if (a instanceof long[]) {
+            long[] sum = (long[]) a;
+            long[] other = (long[]) b;
+            for (int j = 0; j < other.length; j++) {
+                sum[j] += other[j];
+            }
+        } else if (a instanceof double[]) {
+            double[] sum = (double[]) a;
+            double[] other = (double[]) b;
+            for (int j = 0; j < other.length; j++) {
+                sum[j] += other[j];
+            }
+        } else {
+            float[] sum = (float[]) a;
+            float[] other = (float[]) b;
+            for (int j = 0; j < other.length; j++) {
+                sum[j] += other[j];
+            }
+        }
+        return a;
+    }
+
+    /**
+     * @param rows rows of a primitive matrix.
+     * @return length of the longest row.
+     */
+    private static int maxLength(Object[] rows) {
+        int max = 0;
+        for (Object row : rows) {
+            max = Math.max(max, Array.getLength(row));
+        }
+        return max;
+    }
+}
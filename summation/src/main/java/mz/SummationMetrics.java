@@ -0,0 +1,148 @@
+package mz;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Live metrics of the {@link Summation} entry points, published as the MXBean {@value #OBJECT_NAME}.<br>
+ * Recording is off until {@link #register()} is called or the JVM is started with {@code -Dmz.summation.metrics=true}.
+ * The counters are {@link LongAdder}s and the latencies are striped {@link LatencyHistogram}s,
+ * so threads that sum at the same time do not contend on a shared counter.
+ * While recording is off, a call costs one read of a volatile flag.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class SummationMetrics implements SummationMetricsMXBean {
+
+    /**
+     * Object name of the MXBean.
+     */
+    public static final String OBJECT_NAME = "mz:type=SummationMetrics";
+
+    private static final SummationMetrics INSTANCE = new SummationMetrics();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder bytesScanned = new LongAdder();
+
+    /**
+     * Histogram of every entry point, in the order of the entry point constants of {@link SummationProbe}.
+     */
+    private final LatencyHistogram[] latencies = new LatencyHistogram[SummationProbe.ENTRY_POINTS];
+
+    private SummationMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Registers the MXBean on the platform MBean server and starts recording, a second call does nothing.
+     * @return name of the MXBean.
+     * @throws IllegalStateException if the MXBean cannot be registered.
+     */
+    public static ObjectName register() {
+        synchronized (SummationMetrics.class) {
+            try {
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(INSTANCE, name);
+                }
+                SummationProbe.metrics = true;
+                return name;
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Stops recording and removes the MXBean from the platform MBean server, the counters keep their values.
+     */
+    public static void unregister() {
+        synchronized (SummationMetrics.class) {
+            SummationProbe.metrics = false;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+            } catch (InstanceNotFoundException ignored) {
+                // not registered
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Records a finished call.
+     * @param entryPoint entry point constant of {@link SummationProbe}.
+     * @param nanos latency of the call.
+     * @param elementCount number of values added, the inner values of a grouped call, negative if it is unknown.
+     * @param bytes bytes of primitive arrays read.
+     */
+    static void record(int entryPoint, long nanos, long elementCount, long bytes) {
+        SummationMetrics metrics = INSTANCE;
+        metrics.calls.increment();
+        if (elementCount > 0) {
+            metrics.elements.add(elementCount);
+        }
+        if (bytes > 0) {
+            metrics.bytesScanned.add(bytes);
+        }
+        metrics.latencies[entryPoint].record(nanos);
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getBytesScanned() {
+        return bytesScanned.sum();
+    }
+
+    @Override
+    public LatencyStatistics getSummationLatency() {
+        return LatencyStatistics.of(latencies[SummationProbe.SUMMATION]);
+    }
+
+    @Override
+    public LatencyStatistics getSummationArrayLatency() {
+        return LatencyStatistics.of(latencies[SummationProbe.SUMMATION_ARRAY]);
+    }
+
+    @Override
+    public LatencyStatistics getSummationCollectionLatency() {
+        return LatencyStatistics.of(latencies[SummationProbe.SUMMATION_COLLECTION]);
+    }
+
+    @Override
+    public LatencyStatistics getSummationMapLatency() {
+        return LatencyStatistics.of(latencies[SummationProbe.SUMMATION_MAP]);
+    }
+
+    @Override
+    public LatencyStatistics getSummationColumnsLatency() {
+        return LatencyStatistics.of(latencies[SummationProbe.SUMMATION_COLUMNS]);
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        elements.reset();
+        bytesScanned.reset();
+        for (LatencyHistogram latency : latencies) {
+            latency.reset();
+        }
+    }
+}
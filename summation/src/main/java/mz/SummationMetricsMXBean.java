@@ -0,0 +1,55 @@
+package mz;
+
+/**
+ * JMX view of {@link SummationMetrics}, registered as {@value SummationMetrics#OBJECT_NAME}.<br>
+ * The counters grow from the registration, the latencies are per entry point.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public interface SummationMetricsMXBean {
+
+    /**
+     * @return number of recorded calls of every entry point.
+     */
+    long getCalls();
+
+    /**
+     * @return number of values added by the recorded calls, the inner values of the groups of a grouped call.
+     */
+    long getElements();
+
+    /**
+     * @return bytes of primitive arrays and rows of two-dimensional primitive arrays read by the recorded calls, boxed values and streams are not counted.
+     */
+    long getBytesScanned();
+
+    /**
+     * @return latencies of {@code summation} and {@code parallelSummation}.
+     */
+    LatencyStatistics getSummationLatency();
+
+    /**
+     * @return latencies of {@code summationArray} and {@code parallelSummationArray}.
+     */
+    LatencyStatistics getSummationArrayLatency();
+
+    /**
+     * @return latencies of {@code summationCollection}.
+     */
+    LatencyStatistics getSummationCollectionLatency();
+
+    /**
+     * @return latencies of {@code summationMap}, {@code summationLongMap} and {@code summationDoubleMap}.
+     */
+    LatencyStatistics getSummationMapLatency();
+
+    /**
+     * @return latencies of {@code summationColumns} and {@code parallelSummationColumns}.
+     */
+    LatencyStatistics getSummationColumnsLatency();
+
+    /**
+     * Sets every counter and latency to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,32 @@
+package mz;
+
+/**
+ * Selects how {@link Summation#summation(Object, SummationMode)} adds the values.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public enum SummationMode {
+
+    /**
+     * The sum has the type of the widest value, like {@link Summation#summation(Object)}. Integral sums wrap around on overflow.
+     */
+    DEFAULT,
+
+    /**
+     * Integral values (byte, short, int, long, BigInteger) are added in a 128-bit accumulator and the result is a BigInteger,
+     * it is only created when the sum is materialized. Floating point and BigDecimal values are added exactly as BigDecimal.
+     */
+    EXACT,
+
+    /**
+     * float and double values are added with Neumaier compensated summation on primitive accumulators,
+     * the result keeps the type of the widest value. Other types are added like {@code DEFAULT}.
+     */
+    COMPENSATED,
+
+    /**
+     * float and double values are added with pairwise (cascade) summation on primitive accumulators,
+     * the result keeps the type of the widest value. Other types are added like {@code DEFAULT}.
+     */
+    PAIRWISE
+}
@@ -0,0 +1,261 @@
+package mz;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * Instrumentation of the {@link Summation} entry points, every entry point calls {@link #begin()}, {@link #start()}
+ * and {@link #end(SummationEvent, long, int, Object, boolean)} around its work.<br>
+ * The JFR {@link SummationEvent} and the JMX {@link SummationMetrics} are fed from here, the input is described only if one of them is on.
+ * Otherwise a call costs the disabled check of the event and a volatile read, and allocates nothing.
+ * Internal calls between the entry points go around the probe, so one public call is recorded once.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class SummationProbe {
+
+    static final int SUMMATION = 0;
+    static final int SUMMATION_ARRAY = 1;
+    static final int SUMMATION_COLLECTION = 2;
+    static final int SUMMATION_MAP = 3;
+    static final int SUMMATION_COLUMNS = 4;
+
+    /**
+     * Number of the entry point constants.
+     */
+    static final int ENTRY_POINTS = 5;
+
+    /**
+     * Names of the entry points, indexed by their constants.
+     */
+    private static final String[] NAMES = {"summation", "summationArray", "summationCollection", "summationMap", "summationColumns"};
+
+    /**
+     * Start time of a call while {@link SummationMetrics} is not recording.
+     */
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    /**
+     * Event that is never committed, it only tells whether a recording has the event on.
+     */
+    private static final SummationEvent STATE = new SummationEvent();
+
+    /**
+     * True while {@link SummationMetrics} is registered.
+     */
+    static volatile boolean metrics;
+
+    static {
+        if (Boolean.getBoolean("mz.summation.metrics")) {
+            SummationMetrics.register();
+        }
+    }
+
+    /**
+     * Cannot be instantiated!
+     */
+    private SummationProbe() {}
+
+    /**
+     * Starts the timing of a call.
+     * @return the event of the call, null if no recording has the event on.
+     */
+    static SummationEvent begin() {
+        if (!STATE.isEnabled()) {
+            return null;
+        }
+        SummationEvent event = new SummationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Starts the clock of a call for {@link SummationMetrics}.
+     * @return start time of the call, a sentinel if the metrics are not recording.
+     */
+    static long start() {
+        return metrics ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Ends the timing of a call, records it in the metrics and commits its event if a recording wants it.<br>
+     * The values of a grouped input are counted from the size of every group, the inner values are not walked again.
+     * @param event event returned by {@link #begin()}, null if no recording has the event on.
+     * @param start start time returned by {@link #start()}.
+     * @param entryPoint entry point constant.
+     * @param x input of the call.
+     * @param parallel true if the call ran on a fork/join pool.
+     */
+    static void end(SummationEvent event, long start, int entryPoint, Object x, boolean parallel) {
+        if (event == null && start == NOT_TIMED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        if (event != null) {
+            event.end();
+        }
+        boolean grouped = entryPoint != SUMMATION;
+        long count = grouped ? groupedCount(x) : count(x);
+        if (start != NOT_TIMED) {
+            Class<?> type = x == null ? null : x.getClass();
+            SummationMetrics.record(entryPoint, nanos, count, count * width(grouped && type != null ? type.getComponentType() : type));
+        }
+        if (event != null) {
+            event.elementCount = count;
+            if (event.shouldCommit()) {
+                Object values = grouped ? first(x) : x;
+                event.entryPoint = NAMES[entryPoint];
+                event.shape = grouped ? kind(x) + "<" + kind(values) + ">" : kind(x);
+                event.elementType = elementType(values);
+                event.strategy = parallel ? "parallel" : strategy(values, count(values));
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * @param x input or inner value of an input.
+     * @return array, Collection, Map, Reader, InputStream, Stream, ByteBuffer or Path.
+     */
+    private static String kind(Object x) {
+        if (x != null && x.getClass().isArray()) {
+            return "array";
+        } else if (x instanceof Collection) {
+            return "Collection";
+        } else if (x instanceof Map) {
+            return "Map";
+        } else if (x instanceof Reader) {
+            return "Reader";
+        } else if (x instanceof InputStream) {
+            return "InputStream";
+        } else if (x instanceof BaseStream) {
+            return "Stream";
+        } else if (x instanceof ByteBuffer) {
+            return "ByteBuffer";
+        } else if (x instanceof Path) {
+            return "Path";
+        }
+        return x == null ? "empty" : x.getClass().getSimpleName();
+    }
+
+    /**
+     * @param x array, Collection or Map.
+     * @return its first non-null inner value, null if there is none.
+     */
+    private static Object first(Object x) {
+        for (Object value : values(x)) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param x array, Collection or Map.
+     * @return the inner values of an Object array, a Collection or a Map, an empty list for any other input.
+     */
+    private static Iterable<?> values(Object x) {
+        if (x instanceof Object[]) {
+            return Arrays.asList((Object[]) x);
+        } else if (x instanceof Collection) {
+            return (Collection<?>) x;
+        } else if (x instanceof Map) {
+            return ((Map<?, ?>) x).values();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @param values flat input.
+     * @return name of the component type of an array, the class of the first value of a Collection or Map.
+     */
+    private static String elementType(Object values) {
+        if (values != null && values.getClass().isArray()) {
+            return values.getClass().getComponentType().getSimpleName();
+        } else if (values instanceof Collection || values instanceof Map) {
+            Object first = first(values);
+            return first == null ? "empty" : first.getClass().getSimpleName();
+        } else if (values instanceof Reader || values instanceof InputStream) {
+            return "text";
+        } else if (values instanceof BaseStream) {
+            return "stream";
+        } else if (values instanceof ByteBuffer || values instanceof Path) {
+            return "binary";
+        }
+        return "empty";
+    }
+
+    /**
+     * @param x flat input, or grouped input whose groups are counted.
+     * @return number of its values or groups, -1 if it is a stream, a buffer or a file.
+     */
+    private static long count(Object x) {
+        if (x != null && x.getClass().isArray()) {
+            return Array.getLength(x);
+        } else if (x instanceof Collection) {
+            return ((Collection<?>) x).size();
+        } else if (x instanceof Map) {
+            return ((Map<?, ?>) x).size();
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the values of a grouped input from the length or size of every group, a group that is not counted adds nothing.
+     * @param x grouped input.
+     * @return number of the inner values, -1 if the input is not an array, a Collection or a Map.
+     */
+    private static long groupedCount(Object x) {
+        long count = 0;
+        if (x instanceof Object[]) {
+            Object[] groups = (Object[]) x;
+            for (int i = 0; i < groups.length; i++) {
+                count += Math.max(0, count(groups[i]));
+            }
+        } else if (x instanceof Collection || x instanceof Map) {
+            for (Object group : values(x)) {
+                count += Math.max(0, count(group));
+            }
+        } else {
+            return -1;
+        }
+        return count;
+    }
+
+    /**
+     * @param type class of a flat input, null if there is none.
+     * @return bytes of one value if it is a primitive array class, otherwise 0.
+     */
+    private static int width(Class<?> type) {
+        Class<?> component = type == null ? null : type.getComponentType();
+        if (component == int.class || component == float.class) {
+            return 4;
+        } else if (component == long.class || component == double.class) {
+            return 8;
+        } else if (component == short.class) {
+            return 2;
+        } else if (component == byte.class) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * @param x flat input or first inner value of a sequential call.
+     * @param count number of its values.
+     * @return vector if the kernel of {@link SummationKernel} adds the input several lanes at a time, otherwise scalar.
+     */
+    private static String strategy(Object x, long count) {
+        boolean vectorizable = x instanceof int[] || x instanceof long[];
+        return vectorizable && SummationKernel.VECTORIZED && count >= SummationKernel.VECTOR_THRESHOLD ? "vector" : "scalar";
+    }
+}
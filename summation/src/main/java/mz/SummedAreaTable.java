@@ -0,0 +1,307 @@
+package mz;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Summed-area table (integral image) of a two-dimensional input, the sum of any rectangle is answered in O(1) from four table cells.<br>
+ * The table is a flat primitive array with one extra row and column of zeros: a {@code long} table for integral values,
+ * a {@code double} table for float and double values, only BigInteger and BigDecimal values need a BigDecimal table.
+ * Rows can have different lengths, the missing cells count as zero, null values count as zero too.
+ * The table is built in two passes, the prefix sum of every row and then the running sum of every column,
+ * the parallel build splits the rows of the first pass and the columns of the second one.
+ * The sums have the type of the widest value, integral sums are narrowed to it like the boxed addition.
+ * A double rectangle sum is computed from prefix sums, so its rounding error is relative to the sum of the table up to the rectangle.
+ * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("unchecked")
+public final class SummedAreaTable<V extends Number> {
+
+    private final int rows;
+    private final int columns;
+
+    /**
+     * Width of a table row, {@code columns + 1}.
+     */
+    private final int width;
+
+    /**
+     * Type of the sums, null if the input has no value.
+     */
+    private final NumberType type;
+
+    private long[] longs;
+    private double[] doubles;
+    private BigDecimal[] decimals;
+
+    private SummedAreaTable(int rows, int columns, NumberType type) {
+        if ((long) (rows + 1) * (columns + 1) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Table of " + rows + " x " + columns + " cells is too large");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.width = columns + 1;
+        this.type = type;
+    }
+
+    /**
+     * Builds the table in the calling thread.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], int[][], long[][], double[][]</i> Two-dimensional arrays, rows can be ragged.</p>
+     * @param x two-dimensional array of the values.
+     * @return table of the array.
+     * @throws IllegalArgumentException if the type is not supported.
+     */
+    public static <V extends Number, T> SummedAreaTable<V> of(T x) {
+        return build(x, null);
+    }
+
+    /**
+     * Builds the table on the common fork/join pool.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], int[][], long[][], double[][]</i> Two-dimensional arrays, rows can be ragged.</p>
+     * @param x two-dimensional array of the values.
+     * @return table of the array.
+     * @see SummedAreaTable#parallelOf(Object, ForkJoinPool)
+     */
+    public static <V extends Number, T> SummedAreaTable<V> parallelOf(T x) {
+        return parallelOf(x, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the table on the given fork/join pool, the rows and then the columns are split between the workers.<br>
+     * BigInteger and BigDecimal tables are built in the calling thread.
+     * <p><i>V extends Number</i> It can handle classes inherited from the Number class.</p>
+     * <p><i>T preferred Number[][], int[][], long[][], double[][]</i> Two-dimensional arrays, rows can be ragged.</p>
+     * @param x two-dimensional array of the values.
+     * @param pool pool that runs the subtasks.
+     * @return table of the array, the same as the sequentially built one.
+     * @throws IllegalArgumentException if the type is not supported.
+     */
+    public static <V extends Number, T> SummedAreaTable<V> parallelOf(T x, ForkJoinPool pool) {
+        return build(x, pool);
+    }
+
+    /**
+     * @return number of rows.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns, the length of the longest row.
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Sum of a rectangle in O(1).
+     * @param fromRow first row, inclusive.
+     * @param fromColumn first column, inclusive.
+     * @param toRow last row, exclusive.
+     * @param toColumn last column, exclusive.
+     * @return sum of the cells of [fromRow, toRow) x [fromColumn, toColumn) with the type of the widest value, null if the input has no value.
+     * @throws IndexOutOfBoundsException if the rectangle is out of the table.
+     */
+    public V sum(int fromRow, int fromColumn, int toRow, int toColumn) {
+        if (fromRow < 0 || fromRow > toRow || toRow > rows || fromColumn < 0 || fromColumn > toColumn || toColumn > columns) {
+            throw new IndexOutOfBoundsException("Rectangle [" + fromRow + ", " + toRow + ") x [" + fromColumn + ", " + toColumn
+                    + ") is out of the table of " + rows + " x " + columns + " cells");
+        }
+        int a = fromRow * width + fromColumn;
+        int b = fromRow * width + toColumn;
+        int c = toRow * width + fromColumn;
+        int d = toRow * width + toColumn;
+        if (type == null) {
+            return null;
+        } else if (longs != null) {
+            long sum = longs[d] - longs[b] - longs[c] + longs[a];
+            if (type == NumberType.BYTE) {
+                return (V) (Byte) (byte) sum;
+            } else if (type == NumberType.SHORT) {
+                return (V) (Short) (short) sum;
+            } else if (type == NumberType.INTEGER) {
+                return (V) (Integer) (int) sum;
+            } else {
+                return (V) (Long) sum;
+            }
+        } else if (doubles != null) {
+            double sum = doubles[d] - doubles[b] - doubles[c] + doubles[a];
+            return type == NumberType.FLOAT ? (V) (Float) (float) sum : (V) (Double) sum;
+        } else {
+            BigDecimal sum = decimals[d].subtract(decimals[b]).subtract(decimals[c]).add(decimals[a]);
+            return type == NumberType.BIG_INTEGER ? (V) sum.toBigInteger() : (V) sum;
+        }
+    }
+
+    /**
+     * @return sum of every cell, null if the input has no value.
+     */
+    public V total() {
+        return sum(0, 0, rows, columns);
+    }
+
+    /**
+     * Decides the type of the input and builds the table.
+     * @param x two-dimensional array of the values.
+     * @param pool pool of the parallel build, null to build in the calling thread.
+     * @return the table.
+     */
+    private static <V extends Number, T> SummedAreaTable<V> build(T x, ForkJoinPool pool) {
+        NumberType type;
+        if (x instanceof int[][]) {
+            type = NumberType.INTEGER;
+        } else if (x instanceof long[][]) {
+            type = NumberType.LONG;
+        } else if (x instanceof double[][]) {
+            type = NumberType.DOUBLE;
+        } else if (x instanceof Number[][]) {
+            type = null;
+            for (Number[] row : (Number[][]) x) {
+                for (Number value : row) {
+                    if (value != null) {
+                        type = type == null ? NumberType.of(value) : type.widen(NumberType.of(value));
+                    }
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported type! Supported type: Number[][], int[][], long[][], double[][]");
+        }
+        Object[] input = (Object[]) x;
+        int columns = 0;
+        for (Object row : input) {
+            columns = Math.max(columns, Array.getLength(row));
+        }
+        SummedAreaTable<V> table = new SummedAreaTable<>(input.length, columns, type);
+        int size = (input.length + 1) * table.width;
+        if (type == null || type.compareTo(NumberType.LONG) <= 0) {
+            table.longs = new long[size];
+        } else if (type == NumberType.FLOAT || type == NumberType.DOUBLE) {
+            table.doubles = new double[size];
+        } else {
+            table.decimals = new BigDecimal[size];
+            table.buildDecimals((Number[][]) x);
+            return table;
+        }
+        if (pool == null) {
+            table.prefixRows(input, 0, input.length);
+            table.accumulateColumns(1, table.width);
+        } else {
+            int parallelism = pool.getParallelism() * 4;
+            new RangeTask<Void>(0, input.length, input.length / parallelism, (from, to) -> {
+                table.prefixRows(input, from, to);
+                return null;
+            }, (a, b) -> null).invoke(pool);
+            new RangeTask<Void>(1, table.width, table.width / parallelism, (from, to) -> {
+                table.accumulateColumns(from, to);
+                return null;
+            }, (a, b) -> null).invoke(pool);
+        }
+        return table;
+    }
+
+    /**
+     * First pass: writes the prefix sums of the rows into the table, a short row repeats its last prefix sum.
+     * @param input rows of the input.
+     * @param from first row, inclusive.
+     * @param to last row, exclusive.
+     */
+    private void prefixRows(Object[] input, int from, int to) {
+        for (int r = from; r < to; r++) {
+            Object row = input[r];
+            int base = (r + 1) * width + 1;
+            if (longs != null) {
+                long sum = 0;
+                int length = 0;
+                if (row instanceof int[]) {
+                    int[] values = (int[]) row;
+                    for (length = 0; length < values.length; length++) {
+                        sum += values[length];
+                        longs[base + length] = sum;
+                    }
+                } else if (row instanceof long[]) {
+                    long[] values = (long[]) row;
+                    for (length = 0; length < values.length; length++) {
+                        sum += values[length];
+                        longs[base + length] = sum;
+                    }
+                } else {
+                    Number[] values = (Number[]) row;
+                    for (length = 0; length < values.length; length++) {
+                        sum += values[length] == null ? 0 : values[length].longValue();
+                        longs[base + length] = sum;
+                    }
+                }
+                for (; length < columns; length++) {
+                    longs[base + length] = sum;
+                }
+            } else {
+                double sum = 0;
+                int length = 0;
+                if (row instanceof double[]) {
+                    double[] values = (double[]) row;
+                    for (length = 0; length < values.length; length++) {
+                        sum += values[length];
+                        doubles[base + length] = sum;
+                    }
+                } else {
+                    Number[] values = (Number[]) row;
+                    for (length = 0; length < values.length; length++) {
+                        sum += values[length] == null ? 0 : values[length].doubleValue();
+                        doubles[base + length] = sum;
+                    }
+                }
+                for (; length < columns; length++) {
+                    doubles[base + length] = sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Second pass: adds the cell above to every cell of the columns, walking the rows downwards.
+     * @param from first table column, inclusive.
+     * @param to last table column, exclusive.
+     */
+    private void accumulateColumns(int from, int to) {
+        for (int r = 2; r <= rows; r++) {
+            int row = r * width;
+            int above = row - width;
+            if (longs != null) {
+                for (int c = from; c < to; c++) {
+                    longs[row + c] += longs[above + c];
+                }
+            } else {
+                for (int c = from; c < to; c++) {
+                    doubles[row + c] += doubles[above + c];
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the exact table of BigInteger and BigDecimal values.
+     * @param input rows of the input.
+     */
+    private void buildDecimals(Number[][] input) {
+        Arrays.fill(decimals, BigDecimal.ZERO);
+        for (int r = 0; r < rows; r++) {
+            Number[] values = input[r];
+            int row = (r + 1) * width;
+            int above = row - width;
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int c = 0; c < columns; c++) {
+                if (c < values.length && values[c] != null) {
+                    sum = sum.add(NumberType.toBigDecimal(values[c]));
+                }
+                decimals[row + c + 1] = sum.add(decimals[above + c + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package mz;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Summation loops on the {@code jdk.incubator.vector} API, every instruction adds as many values as the preferred species has lanes.<br>
+ * Only {@link SummationKernel} uses it, after it checked that the module is available.
+ * @since 1.0
+ * @author <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+final class VectorKernel {
+
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Cannot be instantiated!
+     */
+    private VectorKernel(){}
+
+    /**
+     * @return number of int lanes, touching it loads the vector classes.
+     */
+    static int lanes() {
+        return INT.length();
+    }
+
+    /**
+     * Sum of a range of an int array, lane by lane and then across the lanes, overflow wraps around like the boxed addition.
+     * Integer addition is associative, so the result is the same as the scalar loop.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static int sum(int[] values, int from, int to) {
+        IntVector sum = IntVector.zero(INT);
+        int i = from;
+        for (int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+            sum = sum.add(IntVector.fromArray(INT, values, i));
+        }
+        int result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Sum of a range of a long array, lane by lane and then across the lanes, overflow wraps around like the boxed addition.
+     * Integer addition is associative, so the result is the same as the scalar loop.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static long sum(long[] values, int from, int to) {
+        LongVector sum = LongVector.zero(LONG);
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            sum = sum.add(LongVector.fromArray(LONG, values, i));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Sum of a range of a float array, lane by lane and then across the lanes.
+     * The values are grouped differently than in index order, so the last bits can differ from the scalar loop.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static float sum(float[] values, int from, int to) {
+        FloatVector sum = FloatVector.zero(FLOAT);
+        int i = from;
+        for (int bound = from + FLOAT.loopBound(to - from); i < bound; i += FLOAT.length()) {
+            sum = sum.add(FloatVector.fromArray(FLOAT, values, i));
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Sum of a range of a double array, lane by lane and then across the lanes.
+     * The values are grouped differently than in index order, so the last bits can differ from the scalar loop.
+     * @param values array whose sum of values you want.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     * @return sum of the range, 0 if it is empty.
+     */
+    static double sum(double[] values, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLE);
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLE, values, i));
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Adds a row of an int matrix to the column sums, overflow wraps around like the boxed addition.
+     * @param row row of the matrix, not longer than the column sums.
+     * @param columns column sums, updated in place.
+     */
+    static void sumColumns(int[] row, int[] columns) {
+        int j = 0;
+        for (int bound = INT.loopBound(row.length); j < bound; j += INT.length()) {
+            IntVector.fromArray(INT, columns, j).add(IntVector.fromArray(INT, row, j)).intoArray(columns, j);
+        }
+        for (; j < row.length; j++) {
+            columns[j] += row[j];
+        }
+    }
+
+    /**
+     * Adds a row of a long matrix to the column sums, overflow wraps around like the boxed addition.
+     * @param row row of the matrix, not longer than the column sums.
+     * @param columns column sums, updated in place.
+     */
+    static void sumColumns(long[] row, long[] columns) {
+        int j = 0;
+        for (int bound = LONG.loopBound(row.length); j < bound; j += LONG.length()) {
+            LongVector.fromArray(LONG, columns, j).add(LongVector.fromArray(LONG, row, j)).intoArray(columns, j);
+        }
+        for (; j < row.length; j++) {
+            columns[j] += row[j];
+        }
+    }
+
+    /**
+     * Adds a row of a float matrix to the column sums.<br>
+     * Every lane adds one column, so each column is still added from the first row to the last one, bit for bit like the scalar loop.
+     * @param row row of the matrix, not longer than the column sums.
+     * @param columns column sums, updated in place.
+     */
+    static void sumColumns(float[] row, float[] columns) {
+        int j = 0;
+        for (int bound = FLOAT.loopBound(row.length); j < bound; j += FLOAT.length()) {
+            FloatVector.fromArray(FLOAT, columns, j).add(FloatVector.fromArray(FLOAT, row, j)).intoArray(columns, j);
+        }
+        for (; j < row.length; j++) {
+            columns[j] += row[j];
+        }
+    }
+
+    /**
+     * Adds a row of a double matrix to the column sums.<br>
+     * Every lane adds one column, so each column is still added from the first row to the last one, bit for bit like the scalar loop.
+     * @param row row of the matrix, not longer than the column sums.
+     * @param columns column sums, updated in place.
+     */
+    static void sumColumns(double[] row, double[] columns) {
+        int j = 0;
+        for (int bound = DOUBLE.loopBound(row.length); j < bound; j += DOUBLE.length()) {
+            DoubleVector.fromArray(DOUBLE, columns, j).add(DoubleVector.fromArray(DOUBLE, row, j)).intoArray(columns, j);
+        }
+        for (; j < row.length; j++) {
+            columns[j] += row[j];
+        }
+    }
+}
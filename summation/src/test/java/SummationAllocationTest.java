@@ -0,0 +1,146 @@
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import mz.SlidingWindowSummation;
+import mz.Summation;
+import mz.SummationBuffer;
+
+/**
+ * Allocation budgets of the hot paths, measured with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.<br>
+ * Every path is warmed up until it runs compiled, then the bytes allocated per call must stay within a fixed budget.
+ * The budgets do not grow with the input, so a path that starts to allocate per element fails.
+ */
+public class SummationAllocationTest {
+
+    private static final int SIZE = 1_000;
+    private static final int WARMUP = 20_000;
+    private static final int CALLS = 2_000;
+
+    /**
+     * Fixed bytes a call may allocate: the boxed result, the accumulator and the iterator of a Collection or Map.
+     */
+    private static final long CALL_BUDGET = 256;
+
+    private static volatile Object sink;
+
+    private com.sun.management.ThreadMXBean threads;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    @DisplayName(value = "Primitive arrays allocate nothing per element.")
+    void primitiveArrayTest() {
+        int[] ints = new int[SIZE];
+        long[] longs = new long[SIZE];
+        double[] doubles = new double[SIZE];
+        float[] floats = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ints[i] = i;
+            longs[i] = i;
+            doubles[i] = i;
+            floats[i] = i;
+        }
+        assertBudget("int[]", CALL_BUDGET, () -> sink = Summation.summation(ints));
+        assertBudget("long[]", CALL_BUDGET, () -> sink = Summation.summation(longs));
+        assertBudget("double[]", CALL_BUDGET, () -> sink = Summation.summation(doubles));
+        assertBudget("float[]", CALL_BUDGET, () -> sink = Summation.summation(floats));
+    }
+
+    @Test
+    @DisplayName(value = "Boxed arrays allocate nothing per element.")
+    void boxedArrayTest() {
+        Integer[] integers = new Integer[SIZE];
+        Long[] longs = new Long[SIZE];
+        Double[] doubles = new Double[SIZE];
+        Upload.upload(integers);
+        Upload.upload(longs);
+        Upload.upload(doubles);
+        assertBudget("Integer[]", CALL_BUDGET, () -> sink = Summation.summation(integers));
+        assertBudget("Long[]", CALL_BUDGET, () -> sink = Summation.summation(longs));
+        assertBudget("Double[]", CALL_BUDGET, () -> sink = Summation.summation(doubles));
+    }
+
+    @Test
+    @DisplayName(value = "Collections and Maps allocate nothing per element.")
+    void collectionTest() {
+        Long[] values = new Long[SIZE];
+        Upload.upload(values);
+        List<Long> list = new ArrayList<>(Arrays.asList(values));
+        LinkedList<Long> linked = new LinkedList<>(list);
+        ArrayDeque<Long> deque = new ArrayDeque<>(list);
+        HashSet<Long> set = new HashSet<>(list);
+        Map<Integer, Long> map = new HashMap<>();
+        for (int i = 0; i < SIZE; i++) {
+            map.put(i, values[i]);
+        }
+        assertBudget("ArrayList", CALL_BUDGET, () -> sink = Summation.summation(list));
+        assertBudget("LinkedList", CALL_BUDGET, () -> sink = Summation.summation(linked));
+        assertBudget("ArrayDeque", CALL_BUDGET, () -> sink = Summation.summation(deque));
+        assertBudget("HashSet", CALL_BUDGET, () -> sink = Summation.summation(set));
+        assertBudget("HashMap", CALL_BUDGET, () -> sink = Summation.summation(map));
+    }
+
+    @Test
+    @DisplayName(value = "The summationArray family allocates only its result.")
+    void summationArrayTest() {
+        int rows = 10;
+        long[][] matrix = new long[rows][SIZE / rows];
+        Long[][] groups = new Long[rows][SIZE / rows];
+        for (int i = 0; i < rows; i++) {
+            Arrays.fill(matrix[i], i);
+            Upload.upload(groups[i]);
+        }
+        long resultBudget = CALL_BUDGET + 16L * rows + 16L * rows;
+        assertBudget("summationArray(long[][])", resultBudget, () -> sink = Summation.summationArray(matrix));
+        assertBudget("summationArray(Long[][])", resultBudget + CALL_BUDGET * rows, () -> sink = Summation.summationArray(groups));
+        SummationBuffer<Long> buffer = SummationBuffer.ofLong(new long[rows]);
+        assertBudget("summationArray(long[][], buffer)", 0, () -> Summation.summationArray(matrix, buffer));
+        assertBudget("summationArray(Long[][], buffer)", CALL_BUDGET * rows, () -> Summation.summationArray(groups, buffer));
+    }
+
+    @Test
+    @DisplayName(value = "Reading a sliding window allocates only its result.")
+    void slidingWindowTest() {
+        SlidingWindowSummation<Long> window = SlidingWindowSummation.ofCount(SIZE / 10);
+        for (long i = 0; i < SIZE; i++) {
+            window.push(Long.MAX_VALUE - i);
+        }
+        assertBudget("currentSum()", 32, () -> sink = window.currentSum());
+    }
+
+    /**
+     * Warms the call up, then checks the bytes it allocates per call.
+     * @param name name of the path in the failure message.
+     * @param budget bytes a call may allocate.
+     * @param call the measured call.
+     */
+    private void assertBudget(String name, long budget, Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long id = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        long perCall = (threads.getThreadAllocatedBytes(id) - before) / CALLS;
+        assertTrue(perCall <= budget, name + " allocated " + perCall + " bytes per call, budget " + budget);
+    }
+}
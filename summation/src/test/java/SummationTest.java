@@ -0,0 +1,1161 @@
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import mz.ElementType;
+import mz.Format;
+import mz.IntToDoubleMap;
+import mz.IntToLongMap;
+import mz.LatencyStatistics;
+import mz.ConcurrentSummationAccumulator;
+import mz.SlidingWindowSummation;
+import mz.PrefixSumIndex;
+import mz.Summation;
+import mz.SummationBuffer;
+import mz.SummationEvent;
+import mz.SummationMetrics;
+import mz.SummationMetricsMXBean;
+import mz.SummationAccumulator;
+import mz.SummationMode;
+import mz.SummedAreaTable;
+
+public class SummationTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(3);
+
+    private int testSize;
+    private Number sum;
+    private Number result;
+    private Number[] arrayNumbers;
+    private BigDecimal[] arrayBigDecimals;
+    private BigInteger[] arrayBigIntegers;
+    private Double[] arrayDoubles;
+    private Float[] arrayFloats;
+    private Long[] arrayLongs;
+    private Integer[] arrayIntegers;
+    private Short[] arrayShorts;
+    private Byte[] arrayBytes;
+    private Collection<Number> collectionNumbers;
+    private Collection<BigDecimal> collectionBigDecimals;
+    private Collection<BigInteger> collectionBigIntegers;
+    private Collection<Double> collectionDoubles;
+    private Collection<Float> collectionFloats;
+    private Collection<Long> collectionLongs;
+    private Collection<Integer> collectionIntegers;
+    private Collection<Short> collectionShorts;
+    private Collection<Byte> collectionBytes;
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @BeforeEach
+    void testField() {
+        testSize = 100;
+        arrayNumbers = new Number[testSize];
+        arrayBigDecimals = new BigDecimal[testSize];
+        arrayBigIntegers = new BigInteger[testSize];
+        arrayDoubles = new Double[testSize];
+        arrayFloats = new Float[testSize];
+        arrayLongs = new Long[testSize];
+        arrayIntegers = new Integer[testSize];
+        arrayShorts = new Short[testSize];
+        arrayBytes = new Byte[testSize];
+        collectionNumbers = new Stack<>();
+        collectionBigDecimals = new Vector<>(); 
+        collectionBigIntegers = new ArrayList<>();
+        collectionDoubles = new TreeSet<>();
+        collectionFloats = new HashSet<>();
+        collectionLongs = new LinkedHashSet<>();
+        collectionIntegers = new LinkedList<>(); 
+        collectionShorts = new LinkedBlockingQueue<>();
+        collectionBytes = new ArrayDeque<>(); 
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Investigation of throw cases.")
+    void throwsTest() {
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation(null));
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation(0));
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation("a"));
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation(new String[]{"ab", "cd", "ef"}));
+        assertDoesNotThrow(() -> Summation.summation(1.1f, 2.2f));
+        assertDoesNotThrow(() -> Summation.summation(arrayNumbers));
+        assertDoesNotThrow(() -> Summation.summation(arrayBigDecimals));
+        assertDoesNotThrow(() -> Summation.summation(arrayBigIntegers));
+        assertDoesNotThrow(() -> Summation.summation(arrayDoubles));
+        assertDoesNotThrow(() -> Summation.summation(arrayFloats));
+        assertDoesNotThrow(() -> Summation.summation(arrayLongs));
+        assertDoesNotThrow(() -> Summation.summation(arrayIntegers));
+        assertDoesNotThrow(() -> Summation.summation(arrayShorts));
+        assertDoesNotThrow(() -> Summation.summation(arrayBytes));
+        assertDoesNotThrow(() -> Summation.summation(collectionNumbers));
+        assertDoesNotThrow(() -> Summation.summation(collectionBigDecimals));
+        assertDoesNotThrow(() -> Summation.summation(collectionBigIntegers));
+        assertDoesNotThrow(() -> Summation.summation(collectionDoubles));
+        assertDoesNotThrow(() -> Summation.summation(collectionFloats));
+        assertDoesNotThrow(() -> Summation.summation(collectionLongs));
+        assertDoesNotThrow(() -> Summation.summation(collectionIntegers));
+        assertDoesNotThrow(() -> Summation.summation(collectionShorts));
+        assertDoesNotThrow(() -> Summation.summation(collectionBytes));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Check for null and non-null return array value.")
+    void arrayNullAndNotNullTest() {
+        assertNull(Summation.summation(arrayDoubles));
+        result = Upload.upload(arrayDoubles);
+        assertNotNull(Summation.summation(arrayDoubles));
+        assertNull(Summation.summation(arrayFloats));
+        result = Upload.upload(arrayFloats);
+        assertNotNull(Summation.summation(arrayFloats));
+        assertNull(Summation.summation(arrayLongs));
+        result = Upload.upload(arrayLongs);
+        assertNotNull(Summation.summation(arrayLongs));
+        assertNull(Summation.summation(arrayIntegers));
+        result = Upload.upload(arrayIntegers);
+        assertNotNull(Summation.summation(arrayIntegers));
+        assertNull(Summation.summation(arrayShorts));
+        result = Upload.upload(arrayShorts);
+        assertNotNull(Summation.summation(arrayShorts));
+        assertNull(Summation.summation(arrayBytes));
+        result = Upload.upload(arrayBytes);
+        assertNotNull(Summation.summation(arrayBytes));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Check for null and non-null return collection value.")
+    void collectionNullAndNotNullTest() {
+        assertNull(Summation.summation(collectionDoubles));
+        result = Upload.uploadDouble(collectionDoubles, testSize);
+        assertNotNull(Summation.summation(collectionDoubles));
+        assertNull(Summation.summation(collectionFloats));
+        result = Upload.uploadFloat(collectionFloats, testSize);
+        assertNotNull(Summation.summation(collectionFloats));
+        assertNull(Summation.summation(collectionLongs));
+        result = Upload.uploadLong(collectionLongs, testSize);
+        assertNotNull(Summation.summation(collectionLongs));
+        assertNull(Summation.summation(collectionIntegers));
+        result = Upload.uploadInt(collectionIntegers, testSize);
+        assertNotNull(Summation.summation(collectionIntegers));
+        assertNull(Summation.summation(collectionShorts));
+        result = Upload.uploadShort(collectionShorts, testSize);
+        assertNotNull(Summation.summation(collectionShorts));
+        assertNull(Summation.summation(collectionBytes));
+        result = Upload.uploadByte(collectionBytes, testSize);
+        assertNotNull(Summation.summation(collectionBytes));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Array addition test.")
+    void arrayTest() {
+        result = Upload.upload(arrayDoubles);
+        sum = Summation.summation(arrayDoubles);
+        assertEquals(result, sum);      
+        result = Upload.upload(arrayFloats);
+        sum = Summation.summation(arrayFloats);
+        assertEquals(result, sum);      
+        result = Upload.upload(arrayLongs);
+        sum = Summation.summation(arrayLongs);
+        assertEquals(result, sum);       
+        result = Upload.upload(arrayIntegers);
+        sum = Summation.summation(arrayIntegers);
+        assertEquals(result, sum);
+        result = Upload.upload(arrayShorts);
+        sum = Summation.summation(arrayShorts);
+        assertEquals(result, sum);
+        result = Upload.upload(arrayBytes);
+        sum = Summation.summation(arrayBytes);
+        assertEquals(result, sum);
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Collection addition test.")
+    void collectionTest() {
+        result = Upload.uploadDouble(collectionDoubles, testSize);
+        sum = Summation.summation(collectionDoubles);
+        assertEquals(result, sum);      
+        result = Upload.uploadFloat(collectionFloats, testSize);
+        sum = Summation.summation(collectionFloats);
+        assertEquals(result, sum);      
+        result = Upload.uploadLong(collectionLongs, testSize);
+        sum = Summation.summation(collectionLongs);
+        assertEquals(result, sum);       
+        result = Upload.uploadInt(collectionIntegers, testSize);
+        sum = Summation.summation(collectionIntegers);
+        assertEquals(result, sum);
+        result = Upload.uploadShort(collectionShorts, testSize);
+        sum = Summation.summation(collectionShorts);
+        assertEquals(result, sum);
+        result = Upload.uploadByte(collectionBytes, testSize);
+        sum = Summation.summation(collectionBytes);
+        assertEquals(result, sum);
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Primitive array addition test.")
+    void primitiveArrayTest() {
+        result = Upload.upload(arrayDoubles);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayDoubles)));
+        result = Upload.upload(arrayFloats);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayFloats)));
+        result = Upload.upload(arrayLongs);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayLongs)));
+        result = Upload.upload(arrayIntegers);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayIntegers)));
+        result = Upload.upload(arrayShorts);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayShorts)));
+        result = Upload.upload(arrayBytes);
+        assertEquals(result, Summation.summation(Upload.toPrimitive(arrayBytes)));
+        assertEquals(0, (Integer) Summation.summation(new int[0]));
+        Number[] rows = Summation.summationArray(new int[][]{Upload.toPrimitive(arrayIntegers), {1, 2, 3}, {}});
+        assertArrayEquals(new Integer[]{Summation.summation(arrayIntegers), 6, 0}, rows);
+        rows = Summation.summationArray(new double[][]{Upload.toPrimitive(arrayDoubles), {0.5, 0.25}});
+        assertArrayEquals(new Double[]{Summation.summation(arrayDoubles), 0.75}, rows);
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Mixed type promotion test.")
+    void mixedTypeTest() {
+        assertEquals(6L, (Long) Summation.summation(new Number[]{1, 2L, (short) 3}));
+        assertEquals(3.5, (Double) Summation.summation(new Number[]{1, 2.5, (byte) 0}));
+        assertEquals(new BigDecimal("3.5"), Summation.summation(new Number[]{BigInteger.ONE, 2.5}));
+        assertEquals(10, (Integer) Summation.summation(new Number[]{null, 4, null, 6}));
+        collectionNumbers.add(Integer.MAX_VALUE);
+        collectionNumbers.add(1L);
+        assertEquals(Integer.MAX_VALUE + 1L, (Long) Summation.summation(collectionNumbers));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Exact BigDecimal addition test.")
+    void bigDecimalTest() {
+        result = Upload.upload(arrayBigDecimals);
+        assertEquals(result, Summation.summation(arrayBigDecimals));
+        result = Upload.uploadBigDecimal(collectionBigDecimals, testSize);
+        assertEquals(result, Summation.summation(collectionBigDecimals));
+        assertEquals(result, Summation.summation(collectionBigDecimals, MathContext.UNLIMITED));
+        assertEquals(((BigDecimal) result).round(MathContext.DECIMAL32), Summation.summation(collectionBigDecimals, MathContext.DECIMAL32));
+        BigDecimal large = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+        assertEquals(large.add(large).add(new BigDecimal("0.001")), Summation.summation(new BigDecimal[]{large, large, new BigDecimal("0.001")}));
+        assertEquals(new BigDecimal("3.75"), Summation.summation(new Number[]{new BigDecimal("1.25"), 2.5}, MathContext.UNLIMITED));
+        assertEquals(BigDecimal.ZERO, Summation.summation(collectionNumbers, MathContext.UNLIMITED));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Exact 128-bit integral addition test.")
+    void exactTest() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        assertEquals(max.multiply(BigInteger.valueOf(3)), Summation.summation(new Long[]{Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE}, SummationMode.EXACT));
+        assertEquals(min.multiply(BigInteger.TWO).add(BigInteger.ONE), Summation.summation(new long[]{Long.MIN_VALUE, Long.MIN_VALUE, 1}, SummationMode.EXACT));
+        assertEquals(BigInteger.valueOf(6), Summation.summation(new int[]{1, 2, 3}, SummationMode.EXACT));
+        result = Upload.uploadLong(collectionLongs, testSize);
+        assertEquals(BigInteger.valueOf((Long) result), Summation.summation(collectionLongs, SummationMode.EXACT));
+        BigInteger wide = max.shiftLeft(10);
+        collectionBigIntegers.add(wide);
+        collectionBigIntegers.add(max);
+        collectionBigIntegers.add(BigInteger.ONE);
+        assertEquals(wide.add(max).add(BigInteger.ONE), Summation.summation(collectionBigIntegers));
+        assertEquals(wide.add(max).add(BigInteger.ONE), Summation.summation(collectionBigIntegers, SummationMode.EXACT));
+        assertEquals(new BigDecimal("1.5"), Summation.summation(new Number[]{Long.MAX_VALUE, 1.5, Long.MIN_VALUE, 1L}, SummationMode.EXACT));
+        assertEquals((Long) Summation.summation(collectionLongs), Summation.summation(collectionLongs, SummationMode.DEFAULT));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Compensated and pairwise floating point addition test.")
+    void compensatedTest() {
+        Double[] cancelling = {1.0, 1e100, 1.0, -1e100};
+        assertEquals(0.0, (Double) Summation.summation(cancelling));
+        assertEquals(2.0, (Double) Summation.summation(cancelling, SummationMode.COMPENSATED));
+        assertEquals(2.0, (Double) Summation.summation(new double[]{1.0, 1e100, 1.0, -1e100}, SummationMode.COMPENSATED));
+        assertEquals(2.0f, (Float) Summation.summation(new Float[]{1.0f, 1e30f, 1.0f, -1e30f}, SummationMode.COMPENSATED));
+        int size = 1_000_000;
+        double[] tenths = new double[size];
+        java.util.Arrays.fill(tenths, 0.1);
+        double exact = new BigDecimal(0.1).multiply(BigDecimal.valueOf(size)).doubleValue();
+        double naive = Summation.summation(tenths);
+        double pairwise = Summation.summation(tenths, SummationMode.PAIRWISE);
+        assertEquals(exact, (Double) Summation.summation(tenths, SummationMode.COMPENSATED));
+        assertTrue(Math.abs(pairwise - exact) < Math.abs(naive - exact));
+        collectionNumbers.add(1);
+        collectionNumbers.add(1e100);
+        collectionNumbers.add(1L);
+        collectionNumbers.add(-1e100);
+        assertEquals(2.0, (Double) Summation.summation(collectionNumbers, SummationMode.COMPENSATED));
+        assertTrue(Math.abs((Double) Summation.summation(Upload.toBoxed(tenths), SummationMode.PAIRWISE) - exact) < Math.abs(naive - exact));
+        assertEquals(6L, (Long) Summation.summation(new Long[]{1L, 2L, 3L}, SummationMode.COMPENSATED));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Parallel addition test.")
+    void parallelTest() {
+        int size = 100_000;
+        Long[] longs = new Long[size];
+        Integer[] integers = new Integer[size];
+        Upload.upload(longs);
+        Upload.upload(integers);
+        assertEquals((Long) Summation.summation(longs), Summation.parallelSummation(longs));
+        assertEquals((Integer) Summation.summation(integers), Summation.parallelSummation(integers));
+        assertEquals((Integer) Summation.summation(integers), Summation.parallelSummation(new ArrayList<>(Arrays.asList(integers))));
+        assertEquals(Summation.summation(Upload.toPrimitive(integers)), (Integer) Summation.parallelSummation(Upload.toPrimitive(integers)));
+        assertEquals(Summation.summation(Upload.toPrimitive(longs)), (Long) Summation.parallelSummation(Upload.toPrimitive(longs), POOL));
+        Number[] mixed = new Number[size];
+        for (int i = 0; i < size; i++) {
+            mixed[i] = i % 1000;
+        }
+        mixed[size - 1] = 1L;
+        assertEquals((Long) Summation.summation(mixed), Summation.parallelSummation(mixed));
+        assertNull(Summation.parallelSummation(new Double[size]));
+        Integer[][] rows = new Integer[100][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = Arrays.copyOfRange(integers, i * 1000, (i + 1) * 1000);
+        }
+        Number[] sums = Summation.parallelSummationArray(rows);
+        assertEquals(Integer[].class, sums.getClass());
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals((Integer) Summation.summation(rows[i]), sums[i]);
+        }
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Vector kernel row and column addition test.")
+    void kernelTest() {
+        int size = 1003;
+        Integer[] integers = new Integer[size];
+        Long[] longs = new Long[size];
+        Double[] doubles = new Double[size];
+        Upload.upload(integers);
+        Upload.upload(longs);
+        Upload.upload(doubles);
+        assertEquals((Integer) Summation.summation(integers), (Integer) Summation.summation(Upload.toPrimitive(integers)));
+        assertEquals((Long) Summation.summation(longs), (Long) Summation.summation(Upload.toPrimitive(longs)));
+        assertEquals((Double) Summation.summation(doubles), (Double) Summation.summation(Upload.toPrimitive(doubles)));
+        int[][] ints = new int[7][];
+        double[][] matrix = new double[7][];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = Arrays.copyOf(Upload.toPrimitive(integers), size - i * 100);
+            matrix[i] = Arrays.copyOf(Upload.toPrimitive(doubles), size - i * 100);
+        }
+        Integer[] rowSums = Summation.summationArray(ints);
+        Integer[] columnSums = Summation.summationColumns(ints);
+        Double[] doubleColumns = Summation.summationColumns(matrix);
+        assertEquals(ints.length, rowSums.length);
+        assertEquals(size, columnSums.length);
+        for (int i = 0; i < ints.length; i++) {
+            assertEquals(Summation.summation(Arrays.copyOf(integers, ints[i].length)), rowSums[i]);
+        }
+        for (int j = 0; j < size; j++) {
+            int column = 0;
+            double doubleColumn = 0;
+            for (int i = 0; i < ints.length; i++) {
+                if (j < ints[i].length) {
+                    column += ints[i][j];
+                    doubleColumn += matrix[i][j];
+                }
+            }
+            assertEquals(column, columnSums[j]);
+            assertEquals(doubleColumn, doubleColumns[j]);
+        }
+        assertEquals(Short.valueOf((short) 4), Summation.summationColumns(new short[][]{{1, 2}, {3}})[0]);
+        assertThrows(IllegalArgumentException.class, () -> Summation.summationColumns(new Object[]{1}));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Streaming text and binary addition test.")
+    void streamTest() {
+        int size = 20_000;
+        Integer[] integers = new Integer[size];
+        Double[] doubles = new Double[size];
+        Upload.upload(integers);
+        Upload.upload(doubles);
+        StringBuilder integerText = new StringBuilder();
+        StringBuilder doubleText = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            integerText.append(integers[i]).append(i % 3 == 0 ? "\n" : ", ");
+            doubleText.append(doubles[i]).append('\n');
+        }
+        assertEquals((Integer) Summation.summation(integers), (Integer) Summation.summation(new StringReader(integerText.toString())));
+        assertEquals((Double) Summation.summation(doubles), (Double) Summation.summation(new StringReader(doubleText.toString())));
+        assertEquals((Integer) Summation.summation(integers), (Integer) Summation.summation(new ByteArrayInputStream(integerText.toString().getBytes(StandardCharsets.US_ASCII)), Format.TEXT));
+        assertEquals(Long.valueOf(3_000_000_001L), Summation.summation(new StringReader("1\n3000000000")));
+        assertEquals(Double.valueOf(4.5), Summation.summation(new StringReader("1;2;1.5")));
+        assertEquals(new BigInteger("18446744073709551617"), Summation.summation(new StringReader("1 18446744073709551616")));
+        assertEquals(new BigDecimal("18446744073709551616.5"), Summation.summation(new StringReader("18446744073709551616 0.5")));
+        assertNull(Summation.summation(new StringReader(" \n ")));
+        assertThrows(NumberFormatException.class, () -> Summation.summation(new StringReader("1 x 2")));
+        ByteBuffer ints = ByteBuffer.allocate(size * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer longs = ByteBuffer.allocate(size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer floats = ByteBuffer.allocate(size * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long[] longValues = new long[size];
+        for (int i = 0; i < size; i++) {
+            longValues[i] = integers[i] * 1_000_000L;
+            ints.putInt(integers[i]);
+            longs.putLong(longValues[i]);
+            floats.putDouble(doubles[i]);
+        }
+        assertEquals((Integer) Summation.summation(integers), Summation.summation(new ByteArrayInputStream(ints.array()), Format.INT32_LE));
+        assertEquals(Summation.summation(longValues), (Long) Summation.summation(new ByteArrayInputStream(longs.array()), Format.INT64_LE));
+        assertEquals((Double) Summation.summation(doubles), Summation.summation(new ByteArrayInputStream(floats.array()), Format.FLOAT64_LE));
+        assertNull(Summation.summation(new ByteArrayInputStream(new byte[0]), Format.INT64_LE));
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation(new ByteArrayInputStream(new byte[5]), Format.INT32_LE));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Memory-mapped file addition test.")
+    void mappedTest() throws IOException {
+        int size = 300_000;
+        Long[] longs = new Long[size];
+        Double[] doubles = new Double[size];
+        Upload.upload(longs);
+        Upload.upload(doubles);
+        ByteBuffer longBytes = ByteBuffer.allocate(size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer doubleBytes = ByteBuffer.allocate(size * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < size; i++) {
+            longBytes.putLong(longs[i]);
+            doubleBytes.putDouble(doubles[i]);
+        }
+        Path longFile = Files.createTempFile("summation", ".bin");
+        Path doubleFile = Files.createTempFile("summation", ".bin");
+        Path emptyFile = Files.createTempFile("summation", ".bin");
+        try {
+            Files.write(longFile, longBytes.array());
+            Files.write(doubleFile, doubleBytes.array());
+            assertEquals((Long) Summation.summation(longs), Summation.summationMapped(longFile, ElementType.INT64));
+            assertEquals((Long) Summation.summation(longs), Summation.parallelSummationMapped(longFile, ElementType.INT64));
+            assertEquals((Double) Summation.summation(doubles), Summation.summationMapped(doubleFile, ElementType.FLOAT64, ByteOrder.BIG_ENDIAN));
+            assertEquals((Double) Summation.summation(doubles), (Double) Summation.parallelSummationMapped(doubleFile, ElementType.FLOAT64, ByteOrder.BIG_ENDIAN, POOL), 1e-6);
+            assertNull(Summation.summationMapped(emptyFile, ElementType.INT32));
+            Files.write(emptyFile, new byte[6]);
+            assertThrows(IllegalArgumentException.class, () -> Summation.summationMapped(emptyFile, ElementType.INT32));
+        } finally {
+            Files.delete(longFile);
+            Files.delete(doubleFile);
+            Files.delete(emptyFile);
+        }
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Direct ByteBuffer addition test.")
+    void bufferTest() {
+        int size = 50_000;
+        Integer[] integers = new Integer[size];
+        Long[] longs = new Long[size];
+        Double[] doubles = new Double[size];
+        Upload.upload(integers);
+        Upload.upload(longs);
+        Upload.upload(doubles);
+        int record = Integer.BYTES + Long.BYTES + Double.BYTES;
+        ByteBuffer records = ByteBuffer.allocateDirect(size * record).order(ByteOrder.nativeOrder());
+        ByteBuffer values = ByteBuffer.allocateDirect(size * Long.BYTES);
+        for (int i = 0; i < size; i++) {
+            records.putInt(integers[i]).putLong(longs[i]).putDouble(doubles[i]);
+            values.putLong(longs[i]);
+        }
+        records.flip();
+        values.flip();
+        assertEquals((Long) Summation.summation(longs), Summation.summation(values, ElementType.INT64));
+        assertEquals((Long) Summation.summation(longs), Summation.parallelSummation(values, ElementType.INT64));
+        assertEquals((Integer) Summation.summation(integers), Summation.summation(records, ElementType.INT32, 0, record));
+        assertEquals((Long) Summation.summation(longs), Summation.summation(records, ElementType.INT64, Integer.BYTES, record));
+        assertEquals((Double) Summation.summation(doubles), Summation.summation(records, ElementType.FLOAT64, Integer.BYTES + Long.BYTES, record));
+        assertEquals((Integer) Summation.summation(integers), Summation.parallelSummation(records, ElementType.INT32, 0, record, POOL));
+        assertEquals(0, records.position());
+        assertNull(Summation.summation(ByteBuffer.allocateDirect(4), ElementType.INT64));
+        assertThrows(IllegalArgumentException.class, () -> Summation.summation(records, ElementType.INT64, 0, 4));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Incremental accumulator test.")
+    void accumulatorTest() {
+        Integer[] integers = new Integer[testSize];
+        Long[] longs = new Long[testSize];
+        Upload.upload(integers);
+        Upload.upload(longs);
+        SummationAccumulator<Integer> integerSum = new SummationAccumulator<Integer>().addAll(integers);
+        assertEquals((Integer) Summation.summation(integers), integerSum.result());
+        integerSum.add(integers[0]).remove(integers[0]);
+        assertEquals((Integer) Summation.summation(integers), integerSum.result());
+        SummationAccumulator<Number> mixed = new SummationAccumulator<>();
+        mixed.addAll(Arrays.asList(integers)).add(5L);
+        assertEquals(Long.class, mixed.result().getClass());
+        mixed.remove(5L);
+        assertEquals((long) (Integer) Summation.summation(integers), mixed.result());
+        SummationAccumulator<Long> longSum = new SummationAccumulator<>();
+        SummationAccumulator<Long> otherLongSum = new SummationAccumulator<>();
+        longSum.addAll(Arrays.copyOfRange(longs, 0, testSize / 2));
+        otherLongSum.addAll(Arrays.asList(longs).subList(testSize / 2, testSize));
+        assertEquals((Long) Summation.summation(longs), longSum.merge(otherLongSum).result());
+        SummationAccumulator<Long> exact = new SummationAccumulator<>(SummationMode.EXACT);
+        exact.add(Long.MAX_VALUE).add(Long.MAX_VALUE).remove(Long.MIN_VALUE);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3)).add(BigInteger.ONE), exact.exactIntegerResult());
+        assertThrows(IllegalStateException.class, exact::result);
+        SummationAccumulator<BigDecimal> decimals = new SummationAccumulator<>();
+        decimals.add(new BigDecimal("0.1")).add(new BigDecimal("0.25")).remove(new BigDecimal("0.1"));
+        assertEquals(0, new BigDecimal("0.25").compareTo(decimals.result()));
+        assertNull(new SummationAccumulator<Double>().result());
+        assertThrows(UnsupportedOperationException.class, () -> new SummationAccumulator<Double>().add(1.0).remove(1.0));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Concurrent accumulator test.")
+    void concurrentTest() throws InterruptedException {
+        int threads = 8;
+        int size = 20_000;
+        ConcurrentSummationAccumulator<Long> longSum = new ConcurrentSummationAccumulator<>();
+        ConcurrentSummationAccumulator<Number> mixed = new ConcurrentSummationAccumulator<>();
+        ConcurrentSummationAccumulator<BigDecimal> decimals = new ConcurrentSummationAccumulator<>();
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 1; i <= size; i++) {
+                    longSum.add((long) i);
+                    mixed.add(i % 2 == 0 ? (Number) i : (Number) Long.MAX_VALUE);
+                    decimals.add(new BigDecimal("0.01"));
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        long expected = (long) threads * size * (size + 1) / 2;
+        assertEquals(expected, longSum.sum());
+        BigInteger evens = BigInteger.valueOf((long) threads * (size / 2) * (size / 2 + 1));
+        BigInteger odds = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf((long) threads * size / 2));
+        assertEquals(evens.add(odds).longValue(), mixed.sum());
+        assertEquals(0, new BigDecimal("0.01").multiply(BigDecimal.valueOf((long) threads * size)).compareTo(decimals.sum()));
+        assertEquals(expected, longSum.sumThenReset());
+        assertNull(longSum.sum());
+        mixed.add(new BigInteger("100000000000000000000"));
+        assertEquals(evens.add(odds).add(new BigInteger("100000000000000000000")), mixed.sum());
+        assertEquals(Double.valueOf(2.5), new ConcurrentSummationAccumulator<Number>().add(1).add(1.5).sum());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Sliding window addition test.")
+    void slidingWindowTest() {
+        int window = 100;
+        Integer[] integers = new Integer[testSize];
+        Double[] doubles = new Double[testSize];
+        Upload.upload(integers);
+        Upload.upload(doubles);
+        SlidingWindowSummation<Integer> integerWindow = SlidingWindowSummation.ofCount(window);
+        SlidingWindowSummation<Double> doubleWindow = SlidingWindowSummation.ofCount(window);
+        assertNull(integerWindow.currentSum());
+        for (int i = 0; i < testSize; i++) {
+            integerWindow.push(integers[i]);
+            doubleWindow.push(doubles[i]);
+            Integer[] last = Arrays.copyOfRange(integers, Math.max(0, i + 1 - window), i + 1);
+            assertEquals((Integer) Summation.summation(last), integerWindow.currentSum());
+            assertEquals((Double) Summation.summation(Arrays.copyOfRange(doubles, Math.max(0, i + 1 - window), i + 1)), doubleWindow.currentSum(), 1e-3);
+        }
+        assertEquals(Math.min(window, testSize), integerWindow.size());
+        SlidingWindowSummation<Number> mixed = SlidingWindowSummation.ofCount(2);
+        mixed.push(1).push(2.5);
+        assertEquals(3.5, mixed.currentSum());
+        mixed.push(3).push(4);
+        assertEquals(7, mixed.currentSum());
+        long[] now = {0};
+        SlidingWindowSummation<Long> timeWindow = SlidingWindowSummation.ofTime(Duration.ofSeconds(10), () -> now[0]);
+        for (int i = 0; i < 100; i++) {
+            now[0] = i * 1_000_000_000L;
+            timeWindow.push((long) i);
+        }
+        assertEquals(Long.valueOf(90 + 91 + 92 + 93 + 94 + 95 + 96 + 97 + 98 + 99), timeWindow.currentSum());
+        now[0] += 100_000_000_000L;
+        assertEquals(Long.valueOf(90 + 91 + 92 + 93 + 94 + 95 + 96 + 97 + 98 + 99), timeWindow.currentSum());
+        timeWindow.push(100L);
+        assertEquals(Long.valueOf(100), timeWindow.currentSum());
+        assertEquals(1, timeWindow.size());
+        assertThrows(IllegalArgumentException.class, () -> SlidingWindowSummation.ofCount(0));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Prefix sum index test.")
+    void prefixSumTest() {
+        Integer[] integers = new Integer[testSize];
+        Upload.upload(integers);
+        PrefixSumIndex<Integer> index = PrefixSumIndex.of(integers);
+        for (int from = 0; from < testSize; from += 7) {
+            for (int to = from + 1; to <= testSize; to += 13) {
+                assertEquals(Summation.summation(Arrays.copyOfRange(integers, from, to)), index.sum(from, to));
+            }
+        }
+        integers[testSize / 2] = 42;
+        index.set(testSize / 2, 42);
+        assertEquals((Integer) Summation.summation(integers), index.sum(0, testSize));
+        assertEquals(Integer.valueOf(42), index.get(testSize / 2));
+        PrefixSumIndex<Number> mixed = PrefixSumIndex.of(Arrays.asList(1, 2, 3, 4));
+        mixed.add(1, 0.5);
+        assertEquals(5.5, mixed.sum(1, 3));
+        mixed.set(0, new BigDecimal("0.25"));
+        assertEquals(0, new BigDecimal("2.75").compareTo((BigDecimal) mixed.prefixSum(2)));
+        PrefixSumIndex.OfLong longs = PrefixSumIndex.ofLong(new long[]{5, 6, 7, 8, 9});
+        longs.add(4, 1);
+        assertEquals(7 + 8 + 10, longs.sum(2, 5));
+        PrefixSumIndex.OfDouble doubles = PrefixSumIndex.ofDouble(new double[]{0.5, 1.5, 2.5});
+        doubles.set(1, 3.0);
+        assertEquals(3.5, doubles.prefixSum(2));
+        assertEquals(Integer.valueOf(0), index.sum(3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.sum(2, 1));
+        assertNull(PrefixSumIndex.of(new Long[3]).sum(0, 3));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Summed-area table test.")
+    void summedAreaTableTest() {
+        int[][] ints = new int[testSize][];
+        Integer[][] integers = new Integer[testSize][];
+        for (int i = 0; i < testSize; i++) {
+            integers[i] = new Integer[i % 17];
+            Upload.upload(integers[i]);
+            ints[i] = Upload.toPrimitive(integers[i]);
+        }
+        SummedAreaTable<Integer> table = SummedAreaTable.of(integers);
+        SummedAreaTable<Integer> parallelTable = SummedAreaTable.parallelOf(ints);
+        assertEquals(testSize, table.rows());
+        assertEquals(16, table.columns());
+        for (int fromRow = 0; fromRow < testSize; fromRow += 11) {
+            for (int toRow = fromRow; toRow <= testSize; toRow += 23) {
+                for (int fromColumn = 0; fromColumn < 16; fromColumn += 3) {
+                    int toColumn = Math.min(16, fromColumn + 5);
+                    int expected = 0;
+                    for (int r = fromRow; r < toRow; r++) {
+                        for (int c = fromColumn; c < Math.min(toColumn, ints[r].length); c++) {
+                            expected += ints[r][c];
+                        }
+                    }
+                    assertEquals(Integer.valueOf(expected), table.sum(fromRow, fromColumn, toRow, toColumn));
+                    assertEquals(Integer.valueOf(expected), parallelTable.sum(fromRow, fromColumn, toRow, toColumn));
+                }
+            }
+        }
+        SummedAreaTable<Double> doubles = SummedAreaTable.parallelOf(new double[][]{{0.5, 1.5}, {2.5}, {}, {3.5, 4.5, 5.5}});
+        assertEquals(1.5 + 4.5 + 5.5, doubles.sum(0, 1, 4, 3));
+        assertEquals(18.0, doubles.total());
+        SummedAreaTable<Number> mixed = SummedAreaTable.of(new Number[][]{{1, new BigDecimal("0.25")}, {null, 2L}});
+        assertEquals(0, new BigDecimal("2.25").compareTo((BigDecimal) mixed.sum(0, 1, 2, 2)));
+        assertNull(SummedAreaTable.of(new Long[2][2]).total());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.sum(0, 0, testSize + 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> SummedAreaTable.of(new short[1][1]));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Boxed column summation test.")
+    void boxedColumnsTest() {
+        int columns = 2500;
+        Long[][] longs = new Long[testSize][];
+        List<List<Long>> lists = new ArrayList<>();
+        for (int i = 0; i < testSize; i++) {
+            longs[i] = new Long[i % 3 == 0 ? columns : i % columns];
+            Upload.upload(longs[i]);
+            lists.add(new LinkedList<>(Arrays.asList(longs[i])));
+        }
+        Long[] expected = new Long[columns];
+        for (int j = 0; j < columns; j++) {
+            List<Long> column = new ArrayList<>();
+            for (Long[] row : longs) {
+                if (j < row.length) {
+                    column.add(row[j]);
+                }
+            }
+            expected[j] = Summation.summation(column);
+        }
+        assertArrayEquals(expected, Summation.summationColumns(longs));
+        assertArrayEquals(expected, Summation.summationColumns(lists));
+        assertArrayEquals(expected, Summation.parallelSummationColumns(longs));
+        assertArrayEquals(expected, Summation.parallelSummationColumns(Arrays.asList(longs)));
+        Number[] mixed = Summation.summationColumns(new Number[][]{{1, 2.5, null}, {2, null, null}, {new BigInteger("3")}});
+        assertEquals(6, ((BigInteger) mixed[0]).intValue());
+        assertEquals(2.5, mixed[1]);
+        assertNull(mixed[2]);
+        int[][] ints = new int[testSize][];
+        for (int i = 0; i < testSize; i++) {
+            Integer[] row = new Integer[i % 70];
+            Upload.upload(row);
+            ints[i] = Upload.toPrimitive(row);
+        }
+        assertArrayEquals(Summation.summationColumns(ints), Summation.parallelSummationColumns(ints));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Single-pass group summation test.")
+    void groupTest() {
+        Integer[][] groups = new Integer[testSize][];
+        List<Collection<Integer>> collections = new ArrayList<>();
+        Map<String, Map<Integer, Integer>> maps = new LinkedHashMap<>();
+        Integer[] expected = new Integer[testSize];
+        for (int i = 0; i < testSize; i++) {
+            groups[i] = new Integer[1 + i % 5];
+            Upload.upload(groups[i]);
+            collections.add(new LinkedList<>(Arrays.asList(groups[i])));
+            Map<Integer, Integer> map = new HashMap<>();
+            for (int j = 0; j < groups[i].length; j++) {
+                map.put(j, groups[i][j]);
+            }
+            maps.put("group" + i, map);
+            expected[i] = Summation.summation(groups[i]);
+        }
+        assertArrayEquals(expected, Summation.summationArray(groups));
+        assertArrayEquals(expected, Summation.summationArray(collections));
+        assertArrayEquals(expected, Summation.summationArray(maps));
+        assertEquals(Arrays.asList(expected), Summation.summationCollection(maps, ArrayList.class));
+        Map<Integer, Integer> indexed = Summation.summationMap(collections, HashMap.class);
+        Map<String, Integer> keyed = Summation.summationMap(groups, LinkedHashMap.class, maps);
+        for (int i = 0; i < testSize; i++) {
+            assertEquals(expected[i], indexed.get(i));
+            assertEquals(expected[i], keyed.get("group" + i));
+        }
+        Number[] mixed = Summation.summationArray(Arrays.asList(new Integer[]{1, 2}, Arrays.asList(0.5, 1.0)));
+        assertEquals(3, mixed[0]);
+        assertEquals(1.5, mixed[1]);
+        assertThrows(IllegalArgumentException.class, () -> Summation.summationArray(new ArrayList<Integer[]>()));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Summation.summationMap(groups, HashMap.class, new Integer[]{1}));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Caller-owned buffer test.")
+    void bufferArrayTest() {
+        long[][] rows = new long[testSize][];
+        Integer[][] groups = new Integer[testSize][];
+        for (int i = 0; i < testSize; i++) {
+            Long[] row = new Long[i % 9];
+            Upload.upload(row);
+            rows[i] = Upload.toPrimitive(row);
+            groups[i] = new Integer[1 + i % 4];
+            Upload.upload(groups[i]);
+        }
+        Long[] expected = Summation.summationArray(rows);
+        SummationBuffer<Long> longs = SummationBuffer.ofLong(new long[10]);
+        assertEquals(testSize, Summation.summationArray(rows, longs));
+        long[] grown = longs.longArray();
+        assertTrue(grown.length >= testSize);
+        for (int i = 0; i < testSize; i++) {
+            assertEquals(expected[i].longValue(), grown[i]);
+        }
+        assertEquals(testSize, Summation.summationArray(rows, longs));
+        assertSame(grown, longs.longArray());
+        Integer[] integerSums = Summation.summationArray(groups);
+        SummationBuffer<Integer> boxed = SummationBuffer.of(new Integer[testSize]);
+        Integer[] reused = boxed.array();
+        assertEquals(testSize, Summation.summationArray(groups, boxed));
+        assertSame(reused, boxed.array());
+        assertArrayEquals(integerSums, boxed.array());
+        SummationBuffer<Double> doubles = SummationBuffer.ofDouble(new double[0]);
+        assertEquals(2, Summation.summationArray(Arrays.asList(Arrays.asList(0.5, 1.5), new Double[]{2.5}), doubles));
+        assertEquals(2.0, doubles.doubleArray()[0]);
+        assertEquals(2.5, doubles.doubleArray()[1]);
+        assertEquals(2, doubles.size());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Collection and Map factory test.")
+    void factoryTest() {
+        Long[][] groups = new Long[testSize][];
+        for (int i = 0; i < testSize; i++) {
+            groups[i] = new Long[1 + i % 6];
+            Upload.upload(groups[i]);
+        }
+        List<Long> expected = Arrays.asList((Long[]) Summation.summationArray(groups));
+        int[] requested = {-1};
+        ArrayList<Long> list = Summation.summationCollection(groups, size -> {
+            requested[0] = size;
+            return new ArrayList<>(size);
+        });
+        assertEquals(testSize, requested[0]);
+        assertEquals(expected, list);
+        TreeSet<Long> sorted = Summation.summationCollection(groups, () -> new TreeSet<>());
+        assertEquals(new TreeSet<>(expected), sorted);
+        assertEquals(expected, new ArrayList<>(Summation.summationCollection(groups, ArrayDeque.class)));
+        LinkedBlockingQueue<Integer> queue = Summation.summationCollection(groups, LinkedBlockingQueue.class);
+        assertEquals(expected, new ArrayList<>(queue));
+        assertTrue(queue.remainingCapacity() > 0);
+        LinkedBlockingDeque<Integer> deque = Summation.summationCollection(groups, LinkedBlockingDeque.class);
+        assertEquals(Integer.MAX_VALUE - testSize, deque.remainingCapacity());
+        assertEquals(new HashSet<>(expected), Summation.summationCollection(groups, HashSet.class));
+        HashMap<Integer, Long> map = Summation.summationMap(groups, size -> new HashMap<>(size));
+        Map<Integer, Long> classMap = Summation.summationMap(groups, HashMap.class);
+        for (int i = 0; i < testSize; i++) {
+            assertEquals(expected.get(i), map.get(i));
+            assertEquals(expected.get(i), classMap.get(i));
+        }
+        assertThrows(RuntimeException.class, () -> Summation.summationCollection(groups, Collection.class));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Primitive-keyed map test.")
+    void primitiveMapTest() {
+        Integer[][] groups = new Integer[testSize][];
+        for (int i = 0; i < testSize; i++) {
+            groups[i] = new Integer[1 + i % 5];
+            Upload.upload(groups[i]);
+        }
+        Integer[] expected = Summation.summationArray(groups);
+        IntToLongMap dense = Summation.summationLongMap(groups);
+        assertEquals(testSize, dense.size());
+        for (int i = 0; i < testSize; i++) {
+            assertEquals(expected[i].longValue(), dense.get(i));
+            assertEquals(Long.valueOf(expected[i]), dense.asMap().get(i));
+        }
+        assertFalse(dense.containsKey(testSize));
+        assertNull(dense.asMap().get(-1));
+        int[] keys = new int[testSize];
+        for (int i = 0; i < testSize; i++) {
+            keys[i] = i * 7919 - 50;
+        }
+        IntToLongMap keyed = Summation.summationLongMap(groups, keys);
+        Map<Integer, Long> view = keyed.asMap();
+        assertEquals(testSize, view.size());
+        Map<Integer, Long> boxed = new HashMap<>();
+        for (int i = 0; i < testSize; i++) {
+            assertEquals(expected[i].longValue(), keyed.get(keys[i]));
+            boxed.put(keys[i], expected[i].longValue());
+        }
+        assertEquals(boxed, view);
+        assertEquals(-1L, keyed.getOrDefault(1, -1L));
+        dense.put(testSize + 5, 3L);
+        assertEquals(testSize + 1, dense.size());
+        assertEquals(3L, dense.get(testSize + 5));
+        assertEquals(expected[0].longValue(), dense.get(0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Summation.summationLongMap(groups, new int[1]));
+        IntToDoubleMap doubles = Summation.summationDoubleMap(new double[][]{{0.5, 1.5}, {2.5}, {}});
+        assertEquals(3, doubles.size());
+        assertEquals(2.0, doubles.get(0));
+        assertEquals(2.5, doubles.get(1));
+        assertEquals(0.0, doubles.get(2));
+        IntToDoubleMap keyedDoubles = Summation.summationDoubleMap(new double[][]{{0.5, 1.5}, {2.5}}, new int[]{0, -3});
+        assertEquals(Map.of(0, 2.0, -3, 2.5), keyedDoubles.asMap());
+        IntToDoubleMap boxedDoubles = Summation.summationDoubleMap(Arrays.asList(new Double[]{0.25, 0.5}, new Integer[]{3}, new Double[]{null}));
+        assertEquals(Map.of(0, 0.75, 1, 3.0, 2, 0.0), boxedDoubles.asMap());
+        assertEquals(6.0, Summation.summationDoubleMap(new int[][]{{1, 2, 3}}).get(0));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Flight recorder event test.")
+    void summationEventTest() throws IOException {
+        int[] values = new int[testSize];
+        Arrays.fill(values, 1);
+        Long[][] groups = new Long[4][];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = new Long[5];
+            Upload.upload(groups[i]);
+        }
+        Path file = Files.createTempFile("summation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SummationEvent.class).withoutThreshold().with("minElements", "4");
+            recording.start();
+            Summation.summation(values);
+            Summation.summation(new int[]{1, 2});
+            Summation.summationMap(groups, HashMap.class);
+            Summation.parallelSummation(Arrays.asList(groups[0]).subList(0, 3));
+            Summation.summation(values, SummationMode.COMPENSATED);
+            Summation.summationColumns(groups);
+            Summation.summation(ByteBuffer.allocate(8), ElementType.INT64);
+            Summation.summationArray(new long[][]{{1, 2}, {3, 4}});
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        events.removeIf(event -> !event.getEventType().getName().equals("mz.SummationEvent"));
+        assertEquals(6, events.size());
+        RecordedEvent flat = events.get(0);
+        assertEquals("summation", flat.getString("entryPoint"));
+        assertEquals("array", flat.getString("shape"));
+        assertEquals("int", flat.getString("elementType"));
+        assertEquals(testSize, flat.getLong("elementCount"));
+        assertTrue(Arrays.asList("vector", "scalar").contains(flat.getString("strategy")));
+        RecordedEvent grouped = events.get(1);
+        assertEquals("summationMap", grouped.getString("entryPoint"));
+        assertEquals("array<array>", grouped.getString("shape"));
+        assertEquals("Long", grouped.getString("elementType"));
+        assertEquals(20, grouped.getLong("elementCount"));
+        assertEquals("scalar", grouped.getString("strategy"));
+        assertEquals("summation", events.get(2).getString("entryPoint"));
+        assertEquals(testSize, events.get(2).getLong("elementCount"));
+        RecordedEvent columns = events.get(3);
+        assertEquals("summationColumns", columns.getString("entryPoint"));
+        assertEquals(20, columns.getLong("elementCount"));
+        RecordedEvent buffer = events.get(4);
+        assertEquals("ByteBuffer", buffer.getString("shape"));
+        assertEquals("binary", buffer.getString("elementType"));
+        assertEquals(-1, buffer.getLong("elementCount"));
+        RecordedEvent matrix = events.get(5);
+        assertEquals("summationArray", matrix.getString("entryPoint"));
+        assertEquals(4, matrix.getLong("elementCount"));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "JMX metrics test.")
+    void metricsTest() throws Exception {
+        ObjectName name = SummationMetrics.register();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            SummationMetricsMXBean metrics = JMX.newMXBeanProxy(server, name, SummationMetricsMXBean.class);
+            metrics.reset();
+            Summation.summation(new int[testSize]);
+            Summation.summationArray(new long[][]{new long[testSize], new long[testSize]});
+            Summation.summationCollection(Arrays.asList(new Integer[]{1, 2}, new Integer[]{3}), ArrayList.class);
+            Summation.summationColumns(new int[][]{{1, 2}, {3}});
+            assertEquals(4, metrics.getCalls());
+            assertEquals(3L * testSize + 6L, metrics.getElements());
+            assertEquals(4L * testSize + 16L * testSize + 12, metrics.getBytesScanned());
+            assertEquals(4L, server.getAttribute(name, "Calls"));
+            LatencyStatistics latency = metrics.getSummationLatency();
+            assertEquals(1, latency.getCount());
+            assertTrue(latency.getP50() <= latency.getP99());
+            assertTrue(latency.getP99() <= latency.getP999());
+            assertTrue(latency.getP999() <= latency.getMax());
+            assertEquals(1, metrics.getSummationArrayLatency().getCount());
+            assertEquals(1, metrics.getSummationCollectionLatency().getCount());
+            assertEquals(0, metrics.getSummationMapLatency().getCount());
+            assertEquals(1, metrics.getSummationColumnsLatency().getCount());
+        } finally {
+            SummationMetrics.unregister();
+        }
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Stream collector test.")
+    void collectorTest() {
+        Integer[] integers = new Integer[testSize];
+        Long[] longs = new Long[testSize];
+        Double[] doubles = new Double[testSize];
+        Upload.upload(integers);
+        Upload.upload(longs);
+        Upload.upload(doubles);
+        BigDecimal[] decimals = new BigDecimal[testSize];
+        for (int i = 0; i < testSize; i++) {
+            decimals[i] = BigDecimal.valueOf(longs[i], 3);
+        }
+        assertEquals((Integer) Summation.summation(integers), Arrays.stream(integers).collect(Summation.collector()));
+        assertEquals((Integer) Summation.summation(integers), Arrays.stream(integers).parallel().collect(Summation.collector(Integer.class)));
+        assertEquals((Long) Summation.summation(longs), Arrays.stream(longs).parallel().collect(Summation.collector(Long.class)));
+        assertEquals((Double) Summation.summation(doubles), Arrays.stream(doubles).collect(Summation.collector(Double.class)));
+        assertEquals((BigDecimal) Summation.summation(decimals), Arrays.stream(decimals).parallel().collect(Summation.collector(BigDecimal.class)));
+        assertEquals(4.5f, Stream.<Number>of(1, 2L, null, 1.5f).parallel().collect(Summation.collector()));
+        assertNull(Stream.<Long>empty().collect(Summation.collector(Long.class)));
+        Collector<Long, ?, Long> exact = Summation.collector(Long.class);
+        assertTrue(exact.characteristics().contains(Collector.Characteristics.CONCURRENT));
+        assertTrue(exact.characteristics().contains(Collector.Characteristics.UNORDERED));
+        assertTrue(Summation.collector(Double.class).characteristics().isEmpty());
+        assertEquals((Long) Summation.summation(longs), Summation.summation(Arrays.stream(longs).parallel()));
+        assertEquals(45, (Integer) Summation.summation(IntStream.range(0, 10)));
+        assertEquals(45L, (Long) Summation.summation(LongStream.range(0, 10).parallel()));
+        assertEquals(2.0, (Double) Summation.summation(DoubleStream.of(0.5, 1.5)));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Exact collector test.")
+    void exactCollectorTest() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        assertEquals(BigInteger.valueOf(3), Stream.of(1L, 2L).collect(Summation.exactIntegerCollector()));
+        assertEquals(max.add(max), Stream.of(Long.MAX_VALUE, Long.MAX_VALUE).parallel().collect(Summation.<Long>exactIntegerCollector()));
+        assertEquals(0, new BigDecimal(max).add(new BigDecimal("0.5")).compareTo(Stream.<Number>of(Long.MAX_VALUE, 0.5).collect(Summation.exactCollector())));
+        assertNull(Stream.<Long>empty().collect(Summation.exactCollector()));
+        assertThrows(ArithmeticException.class, () -> Stream.<Number>of(1L, 0.5).collect(Summation.exactIntegerCollector()));
+        assertThrows(IllegalArgumentException.class, () -> Summation.<Long>collector(SummationMode.EXACT));
+        SummationAccumulator<Number> promoted = new SummationAccumulator<Number>().add(1L);
+        assertThrows(UnsupportedOperationException.class, () -> promoted.remove(0.5));
+        assertEquals(0L, promoted.remove(1L).result());
+        SummationAccumulator<Double> empty = new SummationAccumulator<>();
+        assertThrows(UnsupportedOperationException.class, () -> empty.remove(1.0));
+        assertTrue(empty.isEmpty());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Concurrent accumulator overflow test.")
+    void concurrentOverflowTest() throws InterruptedException {
+        assertEquals(1.8446744073709552E19, new ConcurrentSummationAccumulator<Number>().add(Long.MAX_VALUE).add(Long.MAX_VALUE).add(0.5).sum());
+        int threads = 4;
+        int size = 10_000;
+        ConcurrentSummationAccumulator<BigInteger> sum = new ConcurrentSummationAccumulator<>();
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < size; i++) {
+                    sum.add(BigInteger.valueOf(Long.MAX_VALUE));
+                    sum.add(BigInteger.valueOf(Long.MIN_VALUE));
+                }
+            });
+            writers[t].start();
+        }
+        BigInteger bound = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(threads));
+        while (writers[0].isAlive()) {
+            BigInteger read = sum.sum();
+            assertTrue(read == null || read.abs().compareTo(bound) <= 0);
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals(BigInteger.valueOf(-threads * size), sum.sumThenReset());
+        assertNull(sum.sum());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Mixed sums keep the high word of the integral sum.")
+    void mixedOverflowTest() {
+        double expected = 1.8446744073709552E19;
+        SlidingWindowSummation<Number> window = SlidingWindowSummation.ofCount(3);
+        window.push(Long.MAX_VALUE).push(Long.MAX_VALUE).push(0.5);
+        assertEquals(expected, window.currentSum());
+        window.push(Long.MIN_VALUE);
+        assertEquals(-0.5, window.currentSum());
+        Number[] sums = Summation.summationColumns(new Number[][]{{Long.MAX_VALUE, 1}, {Long.MAX_VALUE, 2}, {0.5, 3}});
+        assertEquals(expected, sums[0]);
+        assertEquals(6, sums[1]);
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Prefix sum index point reads.")
+    void prefixSumPointTest() {
+        PrefixSumIndex<Double> doubles = PrefixSumIndex.of(new Double[]{1e16, 1.0, 3.0});
+        assertEquals(1.0, doubles.get(1));
+        assertEquals(3.0, doubles.get(2));
+        doubles.add(1, 0.5);
+        assertEquals(1.5, doubles.get(1));
+        PrefixSumIndex<Number> mixed = PrefixSumIndex.of(new Number[]{1e16, 1, null});
+        assertEquals(1.0, mixed.get(1));
+        assertEquals(0.0, mixed.get(2));
+        mixed.set(2, new BigDecimal("0.25"));
+        assertEquals(new BigDecimal("0.25"), mixed.get(2));
+        assertEquals(Integer.valueOf(2), PrefixSumIndex.of(new Integer[]{Integer.MAX_VALUE, 2}).get(1));
+        assertNull(PrefixSumIndex.of(new Integer[]{null}).get(0));
+        assertEquals(1.0, PrefixSumIndex.ofDouble(new double[]{1e16, 1.0}).get(1));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Compensated summation of non-finite values.")
+    void compensatedNonFiniteTest() {
+        double inf = Double.POSITIVE_INFINITY;
+        assertEquals((Object) inf, (Number) Summation.summation(new Double[]{inf, 1.0}, SummationMode.COMPENSATED));
+        assertEquals((Object) (-inf), (Number) Summation.summation(new Double[]{1.0, -inf, 2.0}, SummationMode.COMPENSATED));
+        assertEquals((Object) Double.NaN, (Number) Summation.summation(new Double[]{inf, -inf}, SummationMode.COMPENSATED));
+        assertEquals((Object) Double.NaN, (Number) Summation.summation(new Double[]{1.0, Double.NaN}, SummationMode.COMPENSATED));
+        assertEquals((Object) inf, (Number) Summation.summation(new Double[]{Double.MAX_VALUE, Double.MAX_VALUE}, SummationMode.COMPENSATED));
+        assertEquals((Object) inf, (Number) Summation.summation(new double[]{Double.MAX_VALUE, Double.MAX_VALUE, -1.0}, SummationMode.COMPENSATED));
+        assertEquals((Object) Float.POSITIVE_INFINITY, (Number) Summation.summation(new Float[]{Float.MAX_VALUE, Float.MAX_VALUE}, SummationMode.COMPENSATED));
+        assertEquals((Object) Float.NEGATIVE_INFINITY, (Number) Summation.summation(new float[]{Float.NEGATIVE_INFINITY, 1f}, SummationMode.COMPENSATED));
+        assertEquals((Object) inf, (Number) Summation.summation(Arrays.asList(1.0, inf, 2.0), SummationMode.COMPENSATED));
+        assertEquals((Number) Summation.summation(new Double[]{inf, 1.0}), (Number) Summation.summation(new Double[]{inf, 1.0}, SummationMode.COMPENSATED));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Sliding windows recover from infinite, NaN and overflowing values.")
+    void slidingWindowNonFiniteTest() {
+        SlidingWindowSummation<Double> window = SlidingWindowSummation.ofCount(2);
+        window.push(Double.POSITIVE_INFINITY).push(1.0);
+        assertEquals(Double.POSITIVE_INFINITY, window.currentSum());
+        window.push(Double.NEGATIVE_INFINITY);
+        assertEquals(Double.NEGATIVE_INFINITY, window.currentSum());
+        window.push(Double.POSITIVE_INFINITY);
+        assertEquals(Double.NaN, window.currentSum());
+        window.push(2.0).push(3.0);
+        assertEquals(5.0, window.currentSum());
+        window.push(Double.NaN);
+        assertEquals(Double.NaN, window.currentSum());
+        window.push(1.0).push(2.0);
+        assertEquals(3.0, window.currentSum());
+        window.push(1e308).push(1e308);
+        assertEquals(Double.POSITIVE_INFINITY, window.currentSum());
+        window.push(-1e308);
+        assertEquals(0.0, window.currentSum());
+        window.push(1.0).push(2.0);
+        assertEquals(3.0, window.currentSum());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Concurrent accumulator resets keep every value and its type.")
+    void concurrentResetTest() throws InterruptedException {
+        int threads = 4;
+        int size = 50_000;
+        ConcurrentSummationAccumulator<Number> sum = new ConcurrentSummationAccumulator<>();
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < size; i++) {
+                    sum.add(i % 2 == 0 ? (Number) 1 : (Number) 1L);
+                }
+            });
+            writers[t].start();
+        }
+        long total = 0;
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread writer : writers) {
+                running |= writer.isAlive();
+            }
+            Number drained = sum.sumThenReset();
+            if (drained != null) {
+                total += drained.longValue();
+            }
+        }
+        Number rest = sum.sumThenReset();
+        assertEquals((long) threads * size, total + (rest == null ? 0 : rest.longValue()));
+        assertNull(sum.sum());
+        assertEquals(Double.POSITIVE_INFINITY, new ConcurrentSummationAccumulator<Double>().add(Double.POSITIVE_INFINITY).add(1.0).sum());
+        assertEquals(Long.valueOf(3), new ConcurrentSummationAccumulator<Number>().add(1).add(2L).sumThenReset());
+    }
+
+    @RepeatedTest(5)
+    @DisplayName(value = "Column sums keep non-finite values and add floats in float.")
+    void columnFloatingTest() {
+        Float[] column = new Float[1000];
+        Float[][] rows = new Float[column.length][];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = (float) Math.random() * 1000;
+            rows[i] = new Float[]{column[i], 1f};
+        }
+        Float[] sums = Summation.summationColumns(rows);
+        assertEquals(Summation.summation(column), sums[0]);
+        assertEquals(Float.valueOf(column.length), sums[1]);
+        assertArrayEquals(new Double[]{Double.POSITIVE_INFINITY}, Summation.summationColumns(new Double[][]{{Double.POSITIVE_INFINITY}}));
+        assertArrayEquals(new Number[]{Double.NaN, Float.NEGATIVE_INFINITY},
+                Summation.summationColumns(new Number[][]{{Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY}, {Double.NEGATIVE_INFINITY, 1}}));
+        assertArrayEquals(new Number[]{Double.POSITIVE_INFINITY}, Summation.summationColumns(new Number[][]{{1e308}, {1e308}}));
+    }
+}
@@ -1,3 +1,4 @@
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.Random;
 
@@ -124,4 +125,80 @@ public class Upload {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    static double[] toPrimitive(Double[] array) {
+        double[] result = new double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static float[] toPrimitive(Float[] array) {
+        float[] result = new float[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static long[] toPrimitive(Long[] array) {
+        long[] result = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static int[] toPrimitive(Integer[] array) {
+        int[] result = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static short[] toPrimitive(Short[] array) {
+        short[] result = new short[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static byte[] toPrimitive(Byte[] array) {
+        byte[] result = new byte[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    static BigDecimal upload(BigDecimal[] array) {
+        BigDecimal result = BigDecimal.ZERO;
+        for (int i = 0; i < array.length; i++) {
+            BigDecimal r = BigDecimal.valueOf(random.nextInt(), random.nextInt(4));
+            array[i] = r;
+            result = result.add(r);
+        }
+        return result;
+    }
+
+    static BigDecimal uploadBigDecimal(Collection<BigDecimal> collection, int size) {
+        BigDecimal result = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            BigDecimal r = BigDecimal.valueOf(random.nextLong(), 2);
+            collection.add(r);
+            result = result.add(r);
+        }
+        return result;
+    }
+
+    static Double[] toBoxed(double[] array) {
+        Double[] result = new Double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+}